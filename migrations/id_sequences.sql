@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+-- Increments match allocationSize of the pooled-lo optimizer, which reserves a block of ids per nextval
+--changeset onevoker:records-id-sequence-increment
+ALTER SEQUENCE records_id_seq INCREMENT BY 50;
+
+--changeset onevoker:users-projects-roles-id-sequences-increment
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
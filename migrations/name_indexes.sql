@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+-- Keyset pagination and prefix search of GET /users and GET /projects.
+-- "C" collation compares bytes, so one index serves the order, the cursor and the prefix range
+--changeset onevoker:users-projects-name-c-indexes runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_username_c_idx ON users (username COLLATE "C");
+CREATE INDEX CONCURRENTLY IF NOT EXISTS projects_name_c_idx ON projects (name COLLATE "C");
@@ -0,0 +1,103 @@
+--liquibase formatted sql
+
+-- Records moved out of records by RecordArchivalServiceImpl. Only read occasionally, so no indexes besides the key,
+-- pages are packed full and the TOASTed descriptions are compressed by Postgres
+--changeset onevoker:records-archive-table
+CREATE TABLE IF NOT EXISTS records_archive
+(
+    id          INTEGER                  NOT NULL,
+    user_id     INTEGER                  NOT NULL,
+    project_id  INTEGER                  NOT NULL,
+    hours       INTEGER                  NOT NULL,
+    description TEXT,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+--changeset onevoker:record-archival-runs-table
+CREATE TABLE IF NOT EXISTS record_archival_runs
+(
+    id               SERIAL,
+    status           VARCHAR(16)              NOT NULL,
+    horizon          TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_records BIGINT                   NOT NULL,
+    started_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    finished_at      TIMESTAMP WITH TIME ZONE,
+    error            TEXT,
+
+    PRIMARY KEY (id)
+);
+
+ALTER SEQUENCE record_archival_runs_id_seq INCREMENT BY 50;
+
+-- At most one run at a time, across all app instances
+CREATE UNIQUE INDEX IF NOT EXISTS record_archival_runs_running_idx ON record_archival_runs ((TRUE)) WHERE status = 'RUNNING';
+
+-- Archived records stay counted in records_daily_rollup, reports over old periods do not change
+--changeset onevoker:records-daily-rollup-function-archiving splitStatements:false
+CREATE OR REPLACE FUNCTION records_daily_rollup_apply() RETURNS TRIGGER AS
+$$
+BEGIN
+    -- set with SET LOCAL by the archival transaction only
+    IF current_setting('timetracker.archiving', TRUE) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE records_daily_rollup
+        SET sum_hours     = sum_hours - OLD.hours,
+            records_count = records_count - 1
+        WHERE project_id = OLD.project_id
+          AND user_id = OLD.user_id
+          AND day = (OLD.created_at AT TIME ZONE 'UTC')::DATE;
+
+        DELETE
+        FROM records_daily_rollup
+        WHERE project_id = OLD.project_id
+          AND user_id = OLD.user_id
+          AND day = (OLD.created_at AT TIME ZONE 'UTC')::DATE
+          AND records_count = 0;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO records_daily_rollup (project_id, user_id, day, sum_hours, records_count)
+        VALUES (NEW.project_id, NEW.user_id, (NEW.created_at AT TIME ZONE 'UTC')::DATE, NEW.hours, 1)
+        ON CONFLICT (project_id, user_id, day) DO UPDATE
+            SET sum_hours     = records_daily_rollup.sum_hours + EXCLUDED.sum_hours,
+                records_count = records_daily_rollup.records_count + 1;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops monthly partitions of records, which end before before_month and hold no rows anymore
+--changeset onevoker:drop-empty-records-partitions-function splitStatements:false
+CREATE OR REPLACE FUNCTION drop_empty_records_partitions(before_month DATE) RETURNS SETOF TEXT AS
+$$
+DECLARE
+    partition TEXT;
+    is_empty  BOOLEAN;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_records_partitions'));
+
+    FOR partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'records'::REGCLASS
+          AND c.relname ~ '^records_y[0-9]{4}m[0-9]{2}$'
+          AND to_date(substr(c.relname, 9), '"y"YYYY"m"MM') < date_trunc('month', before_month)
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('SELECT NOT EXISTS (SELECT 1 FROM %I)', partition) INTO is_empty;
+            IF is_empty THEN
+                EXECUTE format('DROP TABLE %I', partition);
+                RETURN NEXT partition;
+            END IF;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,63 @@
+--liquibase formatted sql
+
+--changeset onevoker:records-daily-rollup-table
+CREATE TABLE IF NOT EXISTS records_daily_rollup
+(
+    project_id    INTEGER NOT NULL REFERENCES projects (id) ON DELETE CASCADE,
+    user_id       INTEGER NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    day           DATE    NOT NULL,
+    sum_hours     BIGINT  NOT NULL,
+    records_count BIGINT  NOT NULL,
+
+    PRIMARY KEY (project_id, user_id, day)
+);
+
+CREATE INDEX IF NOT EXISTS records_daily_rollup_user_id_day_idx ON records_daily_rollup (user_id, day);
+
+-- Keeps one row per (project, user, UTC day) in sync with every write to records
+--changeset onevoker:records-daily-rollup-function splitStatements:false
+CREATE OR REPLACE FUNCTION records_daily_rollup_apply() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE records_daily_rollup
+        SET sum_hours     = sum_hours - OLD.hours,
+            records_count = records_count - 1
+        WHERE project_id = OLD.project_id
+          AND user_id = OLD.user_id
+          AND day = (OLD.created_at AT TIME ZONE 'UTC')::DATE;
+
+        DELETE
+        FROM records_daily_rollup
+        WHERE project_id = OLD.project_id
+          AND user_id = OLD.user_id
+          AND day = (OLD.created_at AT TIME ZONE 'UTC')::DATE
+          AND records_count = 0;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO records_daily_rollup (project_id, user_id, day, sum_hours, records_count)
+        VALUES (NEW.project_id, NEW.user_id, (NEW.created_at AT TIME ZONE 'UTC')::DATE, NEW.hours, 1)
+        ON CONFLICT (project_id, user_id, day) DO UPDATE
+            SET sum_hours     = records_daily_rollup.sum_hours + EXCLUDED.sum_hours,
+                records_count = records_daily_rollup.records_count + 1;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Writes are blocked until the trigger exists, so no record is counted twice or missed
+--changeset onevoker:records-daily-rollup-backfill
+LOCK TABLE records IN SHARE ROW EXCLUSIVE MODE;
+
+INSERT INTO records_daily_rollup (project_id, user_id, day, sum_hours, records_count)
+SELECT project_id, user_id, (created_at AT TIME ZONE 'UTC')::DATE, SUM(hours), COUNT(*)
+FROM records
+GROUP BY project_id, user_id, (created_at AT TIME ZONE 'UTC')::DATE;
+
+CREATE TRIGGER records_daily_rollup_trigger
+    AFTER INSERT OR DELETE OR UPDATE OF project_id, user_id, hours, created_at
+    ON records
+    FOR EACH ROW
+EXECUTE FUNCTION records_daily_rollup_apply();
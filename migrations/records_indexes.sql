@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+-- CONCURRENTLY keeps records writable while indexes are built, but cannot run inside a transaction
+--changeset onevoker:records-indexes runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS records_project_id_created_at_idx ON records (project_id, created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS records_user_id_created_at_idx ON records (user_id, created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS records_project_id_user_id_created_at_idx ON records (project_id, user_id, created_at);
+-- Keyset pagination order of GET /records
+CREATE INDEX CONCURRENTLY IF NOT EXISTS records_created_at_id_idx ON records (created_at, id);
+-- Records are appended in time order, so a BRIN index stays tiny for wide date ranges
+CREATE INDEX CONCURRENTLY IF NOT EXISTS records_created_at_brin_idx ON records USING BRIN (created_at);
@@ -0,0 +1,128 @@
+--liquibase formatted sql
+
+-- Creates missing monthly partitions of records for every month from from_month to to_month, both included.
+-- Called by the migration and by RecordPartitionServiceImpl, so it must stay idempotent
+--changeset onevoker:records-partitions-function splitStatements:false
+CREATE OR REPLACE FUNCTION create_records_partitions(from_month DATE, to_month DATE) RETURNS VOID AS
+$$
+DECLARE
+    month DATE := date_trunc('month', from_month)::DATE;
+BEGIN
+    -- several app instances run the job at the same time
+    PERFORM pg_advisory_xact_lock(hashtext('create_records_partitions'));
+
+    WHILE month <= to_month
+        LOOP
+            -- bounds are UTC month starts, like the day of records_daily_rollup
+            EXECUTE format(
+                    'CREATE TABLE IF NOT EXISTS %I PARTITION OF records FOR VALUES FROM (%L) TO (%L)',
+                    'records_' || to_char(month, '"y"YYYY"m"MM'),
+                    month::TIMESTAMP AT TIME ZONE 'UTC',
+                    (month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC'
+                    );
+            month := month + INTERVAL '1 month';
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows are copied into a new table partitioned by month, writes are blocked for the whole changeset.
+-- The primary key of a partitioned table has to contain the partition key
+--changeset onevoker:records-partitioning
+LOCK TABLE records IN ACCESS EXCLUSIVE MODE;
+
+ALTER SEQUENCE records_id_seq OWNED BY NONE;
+ALTER TABLE records RENAME TO records_unpartitioned;
+ALTER TABLE records_unpartitioned RENAME CONSTRAINT records_pkey TO records_unpartitioned_pkey;
+
+CREATE TABLE records
+(
+    id          INTEGER                  NOT NULL DEFAULT nextval('records_id_seq'),
+    user_id     INTEGER                  NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    project_id  INTEGER                  NOT NULL REFERENCES projects (id) ON DELETE CASCADE,
+    hours       INTEGER                  NOT NULL,
+    description TEXT,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE records_id_seq OWNED BY records.id;
+
+-- Catches rows outside of the created months, it is expected to stay empty
+CREATE TABLE records_default PARTITION OF records DEFAULT;
+
+SELECT create_records_partitions(
+               COALESCE((SELECT MIN(created_at) AT TIME ZONE 'UTC' FROM records_unpartitioned)::DATE, CURRENT_DATE),
+               (CURRENT_DATE + INTERVAL '3 months')::DATE
+       );
+
+-- records has no trigger yet, so the copied rows are not counted in records_daily_rollup twice
+INSERT INTO records (id, user_id, project_id, hours, description, created_at)
+SELECT id, user_id, project_id, hours, description, created_at
+FROM records_unpartitioned;
+
+DROP TABLE records_unpartitioned;
+
+-- Indexes on the parent are created on every partition, including future ones
+CREATE INDEX records_project_id_created_at_idx ON records (project_id, created_at);
+CREATE INDEX records_user_id_created_at_idx ON records (user_id, created_at);
+CREATE INDEX records_project_id_user_id_created_at_idx ON records (project_id, user_id, created_at);
+CREATE INDEX records_created_at_id_idx ON records (created_at, id);
+CREATE INDEX records_created_at_brin_idx ON records USING BRIN (created_at);
+
+CREATE TRIGGER records_daily_rollup_trigger
+    AFTER INSERT OR DELETE OR UPDATE OF project_id, user_id, hours, created_at
+    ON records
+    FOR EACH ROW
+EXECUTE FUNCTION records_daily_rollup_apply();
+
+ANALYZE records;
+
+-- Rows of a month without a partition sit in records_default and would fail CREATE TABLE ... PARTITION OF,
+-- they are moved into the new partition. Delete and insert both go through the rollup trigger, so its totals stay
+--changeset onevoker:records-partitions-function-move-default-rows splitStatements:false
+CREATE OR REPLACE FUNCTION create_records_partitions(from_month DATE, to_month DATE) RETURNS VOID AS
+$$
+DECLARE
+    month       DATE := date_trunc('month', from_month)::DATE;
+    partition   TEXT;
+    lower_bound TIMESTAMP WITH TIME ZONE;
+    upper_bound TIMESTAMP WITH TIME ZONE;
+BEGIN
+    -- several app instances run the job at the same time
+    PERFORM pg_advisory_xact_lock(hashtext('create_records_partitions'));
+
+    WHILE month <= to_month
+        LOOP
+            partition := 'records_' || to_char(month, '"y"YYYY"m"MM');
+            -- bounds are UTC month starts, like the day of records_daily_rollup
+            lower_bound := month::TIMESTAMP AT TIME ZONE 'UTC';
+            upper_bound := (month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC';
+
+            IF to_regclass(partition) IS NULL THEN
+                IF EXISTS (SELECT 1 FROM records_default WHERE created_at >= lower_bound AND created_at < upper_bound) THEN
+                    CREATE TEMP TABLE records_default_moved (LIKE records);
+
+                    WITH moved AS (
+                        DELETE FROM records_default
+                        WHERE created_at >= lower_bound AND created_at < upper_bound
+                        RETURNING *
+                    )
+                    INSERT INTO records_default_moved SELECT * FROM moved;
+                END IF;
+
+                EXECUTE format(
+                        'CREATE TABLE %I PARTITION OF records FOR VALUES FROM (%L) TO (%L)',
+                        partition, lower_bound, upper_bound
+                        );
+
+                IF to_regclass('pg_temp.records_default_moved') IS NOT NULL THEN
+                    INSERT INTO records SELECT * FROM records_default_moved;
+                    DROP TABLE records_default_moved;
+                END IF;
+            END IF;
+
+            month := month + INTERVAL '1 month';
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,71 @@
+package com.onevoker.timetracker.benchmarks;
+
+import com.onevoker.timetracker.configs.SecurityPropertiesConfig;
+import com.onevoker.timetracker.controllers.filters.JwtAuthenticationFilter;
+import com.onevoker.timetracker.security.services.jwt.JwtDecoderService;
+import com.onevoker.timetracker.security.services.jwt.JwtIssuerService;
+import com.onevoker.timetracker.security.services.jwt.JwtPrincipalResolverService;
+import com.onevoker.timetracker.security.services.jwt.JwtToPrincipalConverterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Filter path of an authenticated request.
+ * With principal cache size 0 every request verifies the signature and parses claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    @Param({"0", "10000"})
+    private long principalCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    private static final String SECRET_KEY = "benchmarkSecretKey";
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String AUTH_TOKEN_TYPE = "Bearer ";
+
+    @Setup
+    public void setUp() {
+        SecurityPropertiesConfig.Jwt jwt = new SecurityPropertiesConfig.Jwt(SECRET_KEY, TOKEN_LIFETIME, principalCacheSize);
+        SecurityPropertiesConfig.ClaimNames claimNames = new SecurityPropertiesConfig.ClaimNames("username", "authorities");
+        SecurityPropertiesConfig securityPropertiesConfig = new SecurityPropertiesConfig(jwt, claimNames, null);
+
+        JwtPrincipalResolverService resolver = new JwtPrincipalResolverService(
+                new JwtDecoderService(jwt),
+                new JwtToPrincipalConverterService(claimNames),
+                jwt
+        );
+        filter = new JwtAuthenticationFilter(resolver, new SimpleMeterRegistry());
+
+        String token = new JwtIssuerService(securityPropertiesConfig)
+                .generateToken(1, "onevoker", List.of("ROLE_User", "ROLE_Admin"));
+        request = new MockHttpServletRequest();
+        request.addHeader(AUTH_HEADER, AUTH_TOKEN_TYPE + token);
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws ServletException, IOException {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+
+        return authentication;
+    }
+}
@@ -0,0 +1,56 @@
+package com.onevoker.timetracker.benchmarks;
+
+import com.onevoker.timetracker.configs.SecurityPropertiesConfig;
+import com.onevoker.timetracker.security.services.jwt.JwtDecoderService;
+import com.onevoker.timetracker.security.services.jwt.JwtIssuerService;
+import com.onevoker.timetracker.security.services.jwt.JwtToPrincipalConverterService;
+import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * JWT services without the principal cache: issuing on login, decoding and converting on every request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private JwtIssuerService jwtIssuerService;
+    private JwtDecoderService jwtDecoderService;
+    private JwtToPrincipalConverterService jwtToPrincipalConverterService;
+    private String token;
+
+    private static final String SECRET_KEY = "benchmarkSecretKey";
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+    private static final int USER_ID = 1;
+    private static final String USERNAME = "onevoker";
+    private static final List<String> ROLES = List.of("ROLE_User", "ROLE_Admin");
+
+    @Setup
+    public void setUp() {
+        SecurityPropertiesConfig.Jwt jwt = new SecurityPropertiesConfig.Jwt(SECRET_KEY, TOKEN_LIFETIME, 0);
+        SecurityPropertiesConfig.ClaimNames claimNames = new SecurityPropertiesConfig.ClaimNames("username", "authorities");
+        SecurityPropertiesConfig securityPropertiesConfig = new SecurityPropertiesConfig(jwt, claimNames, null);
+
+        jwtIssuerService = new JwtIssuerService(securityPropertiesConfig);
+        jwtDecoderService = new JwtDecoderService(jwt);
+        jwtToPrincipalConverterService = new JwtToPrincipalConverterService(claimNames);
+        token = jwtIssuerService.generateToken(USER_ID, USERNAME, ROLES);
+    }
+
+    @Benchmark
+    public UserPrincipal decodeAndConvert() {
+        return jwtToPrincipalConverterService.convert(jwtDecoderService.decode(token));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtIssuerService.generateToken(USER_ID, USERNAME, ROLES);
+    }
+}
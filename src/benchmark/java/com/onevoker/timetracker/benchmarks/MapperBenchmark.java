@@ -0,0 +1,76 @@
+package com.onevoker.timetracker.benchmarks;
+
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RecordEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.mappers.Mapper;
+import com.onevoker.timetracker.domain.mappers.MapperService;
+import com.onevoker.timetracker.domain.projections.RecordRow;
+import com.onevoker.timetracker.dto.RecordResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Mapping of record lists, from entities (old read path) and from projection rows (keyset pages)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"100", "10000"})
+    private int recordsCount;
+
+    private final Mapper mapper = new MapperService();
+    private List<RecordEntity> recordEntities;
+    private List<RecordRow> recordRows;
+
+    private static final String PROJECT_NAME = "TimeTracker";
+    private static final String USERNAME = "onevoker";
+    private static final String DESCRIPTION = "Worked on feature";
+    private static final int HOURS = 5;
+
+    @Setup
+    public void setUp() {
+        ProjectEntity projectEntity = new ProjectEntity();
+        projectEntity.setName(PROJECT_NAME);
+        UserEntity userEntity = new UserEntity();
+        userEntity.setUsername(USERNAME);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        recordEntities = new ArrayList<>(recordsCount);
+        recordRows = new ArrayList<>(recordsCount);
+        for (int i = 0; i < recordsCount; i++) {
+            RecordEntity recordEntity = new RecordEntity();
+            recordEntity.setId(i);
+            recordEntity.setProjectEntity(projectEntity);
+            recordEntity.setUserEntity(userEntity);
+            recordEntity.setHours(HOURS);
+            recordEntity.setDescription(DESCRIPTION);
+            recordEntity.setCreatedAt(now.plusSeconds(i));
+            recordEntities.add(recordEntity);
+
+            recordRows.add(new RecordRow(i, PROJECT_NAME, USERNAME, HOURS, DESCRIPTION, now.plusSeconds(i)));
+        }
+    }
+
+    @Benchmark
+    public List<RecordResponse> mapRecordEntities() {
+        return recordEntities.stream()
+                .map(mapper::getRecordResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public List<RecordResponse> mapRecordRows() {
+        return recordRows.stream()
+                .map(mapper::getRecordResponse)
+                .toList();
+    }
+}
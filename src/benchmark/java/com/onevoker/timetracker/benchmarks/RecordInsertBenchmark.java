@@ -0,0 +1,104 @@
+package com.onevoker.timetracker.benchmarks;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.TimeTrackerApplication;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RecordEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Record inserts per second through Hibernate, one round trip per row (batch size 1, as with IDENTITY ids)
+ * against JDBC batches of hibernate.jdbc.batch_size. Postgres runs in Testcontainers like in the ITs, so Docker is needed
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordInsertBenchmark {
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Integer userId;
+    private Integer projectId;
+
+    private static final int RECORDS_PER_INVOCATION = 500;
+    private static final String PROJECT_NAME = "benchmark_project_";
+    private static final String USERNAME = "benchmark_user_";
+    private static final String PASSWORD = "reallyGoodPassword";
+    private static final String DESCRIPTION = "Worked on feature";
+    private static final int HOURS = 5;
+
+    @Setup
+    public void setUp() {
+        // the whole app, security needs the MVC context. Arguments, default properties lose to application.yaml
+        context = new SpringApplicationBuilder(TimeTrackerApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.datasource.url=" + IntegrationTest.POSTGRES.getJdbcUrl(),
+                        "--spring.datasource.username=" + IntegrationTest.POSTGRES.getUsername(),
+                        "--spring.datasource.password=" + IntegrationTest.POSTGRES.getPassword(),
+                        "--security-properties.jwt.secret-key=benchmarkSecretKey",
+                        "--password-hashing.cost=4",
+                        "--record-archival.cron=-"
+                );
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            UserEntity userEntity = new UserEntity();
+            userEntity.setUsername(USERNAME + batchSize);
+            userEntity.setPassword(PASSWORD);
+            entityManager.persist(userEntity);
+
+            ProjectEntity projectEntity = new ProjectEntity();
+            projectEntity.setName(PROJECT_NAME + batchSize);
+            entityManager.persist(projectEntity);
+
+            userId = userEntity.getId();
+            projectId = projectEntity.getId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void insertRecords() {
+        // the commit flushes, so the score includes the round trips of all inserts
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+            UserEntity userEntity = session.getReference(UserEntity.class, userId);
+            ProjectEntity projectEntity = session.getReference(ProjectEntity.class, projectId);
+
+            for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+                RecordEntity recordEntity = new RecordEntity();
+                recordEntity.setHours(HOURS);
+                recordEntity.setDescription(DESCRIPTION);
+                recordEntity.setUserEntity(userEntity);
+                recordEntity.setProjectEntity(projectEntity);
+                session.persist(recordEntity);
+            }
+        });
+    }
+}
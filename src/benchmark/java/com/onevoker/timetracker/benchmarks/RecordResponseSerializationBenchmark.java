@@ -0,0 +1,49 @@
+package com.onevoker.timetracker.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onevoker.timetracker.dto.RecordResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Jackson serialization of record lists, ObjectMapper is built like the one of Spring MVC
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordResponseSerializationBenchmark {
+    @Param({"100", "10000"})
+    private int recordsCount;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<RecordResponse> recordResponses;
+
+    private static final String PROJECT_NAME = "TimeTracker";
+    private static final String USERNAME = "onevoker";
+    private static final String DESCRIPTION = "Worked on feature";
+    private static final int HOURS = 5;
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        recordResponses = new ArrayList<>(recordsCount);
+        for (int i = 0; i < recordsCount; i++) {
+            recordResponses.add(new RecordResponse(PROJECT_NAME, USERNAME, HOURS, DESCRIPTION, now.plusSeconds(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeRecordResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(recordResponses);
+    }
+}
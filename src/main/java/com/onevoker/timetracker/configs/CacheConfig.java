@@ -0,0 +1,40 @@
+package com.onevoker.timetracker.configs;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    @Bean
+    public CacheManager cacheManager(CachePropertiesConfig cachePropertiesConfig) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(cachePropertiesConfig.caches().entrySet().stream()
+                .map(cache -> getCache(cache.getKey(), cache.getValue()))
+                .toList());
+
+        return cacheManager;
+    }
+
+    private static Cache getCache(String name, CachePropertiesConfig.CacheSpec spec) {
+        Cache cache = new CaffeineCache(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(spec.ttl())
+                        .maximumSize(spec.maximumSize())
+                        // exposed as cache.gets/cache.puts/cache.evictions metrics by actuator
+                        .recordStats()
+                        .build()
+        );
+
+        // puts and evictions inside a transaction are applied after its commit
+        return spec.transactionAware() ? new TransactionAwareCacheDecorator(cache) : cache;
+    }
+}
@@ -0,0 +1,13 @@
+package com.onevoker.timetracker.configs;
+
+public final class CacheNames {
+    public static final String PROJECT_MEMBERSHIP = "project-membership";
+    // SpEL key, methods using it must have projectId and userId parameters
+    public static final String PROJECT_MEMBERSHIP_KEY = "#projectId + ':' + #userId";
+    public static final String PROJECT_IDS = "project-ids";
+    public static final String USER_IDS = "user-ids";
+    public static final String ROLE_IDS = "role-ids";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,16 @@
+package com.onevoker.timetracker.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/***
+ * Caffeine settings per cache, keys are names from {@link CacheNames}.
+ * Only listed caches exist, transactionAware caches apply puts and evictions after commit
+ */
+@ConfigurationProperties(prefix = "cache-properties", ignoreUnknownFields = false)
+public record CachePropertiesConfig(Map<String, CacheSpec> caches) {
+    public record CacheSpec(Duration ttl, long maximumSize, boolean transactionAware) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.onevoker.timetracker.configs;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/***
+ * ETags of list pages, a repeated request with If-None-Match gets 304 without the body.
+ * The page is still read from the database, only the transfer is saved
+ */
+@Configuration
+public class EtagConfig {
+    // exact paths, streaming endpoints must not be buffered by the filter
+    private static final String[] ETAG_URL_PATTERNS = {"/users", "/projects"};
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(ETAG_URL_PATTERNS);
+        return registration;
+    }
+}
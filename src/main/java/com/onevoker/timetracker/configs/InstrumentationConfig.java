@@ -0,0 +1,59 @@
+package com.onevoker.timetracker.configs;
+
+import com.onevoker.timetracker.instrumentation.JdbcTimingSessionEventListener;
+import com.onevoker.timetracker.instrumentation.QueryCountingStatementInspector;
+import com.onevoker.timetracker.instrumentation.QueryStatsEventListener;
+import com.onevoker.timetracker.instrumentation.QueryStatsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/***
+ * Opt-in per-request SQL instrumentation, see {@link InstrumentationPropertiesConfig}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "instrumentation", name = "enabled", havingValue = "true")
+public class InstrumentationConfig {
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionEventListener.class.getName());
+        };
+    }
+
+    @Bean
+    public QueryStatsEventListener queryStatsEventListener(EntityManagerFactory entityManagerFactory) {
+        QueryStatsEventListener listener = new QueryStatsEventListener();
+        EventListenerRegistry eventListenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        eventListenerRegistry.appendListeners(EventType.POST_LOAD, listener);
+        eventListenerRegistry.appendListeners(EventType.INIT_COLLECTION, listener);
+
+        return listener;
+    }
+
+    @Bean
+    public WebMvcConfigurer queryStatsWebMvcConfigurer(InstrumentationPropertiesConfig instrumentationPropertiesConfig,
+                                                       MeterRegistry meterRegistry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new QueryStatsInterceptor(
+                        meterRegistry,
+                        instrumentationPropertiesConfig.responseHeaders()
+                ));
+            }
+        };
+    }
+}
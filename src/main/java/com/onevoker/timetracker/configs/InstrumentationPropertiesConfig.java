@@ -0,0 +1,11 @@
+package com.onevoker.timetracker.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/***
+ * @param enabled         count queries, JDBC time, entity loads and collection fetches per request
+ * @param responseHeaders also return the counters as X-Query-Count and similar headers, for dev only
+ */
+@ConfigurationProperties(prefix = "instrumentation", ignoreUnknownFields = false)
+public record InstrumentationPropertiesConfig(boolean enabled, boolean responseHeaders) {
+}
@@ -0,0 +1,16 @@
+package com.onevoker.timetracker.configs;
+
+/***
+ * Meter names, histograms for them are configured in management.metrics.distribution
+ */
+public final class MetricNames {
+    // @Timed services, tagged by class and method
+    public static final String SERVICE_METRIC = "timetracker.service";
+    public static final String ENTITY_FINDER_METRIC = "timetracker.entity.finder";
+    public static final String JWT_RESOLVE_METRIC = "timetracker.jwt.resolve";
+    // threads queued in front of the pool in virtual-thread mode, hikaricp.connections.pending stays 0 then
+    public static final String DATASOURCE_WAITING_METRIC = "timetracker.datasource.waiting";
+
+    private MetricNames() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.onevoker.timetracker.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/***
+ * @param cost BCrypt cost, if null it is calibrated on startup to fit {@code targetLatency}
+ */
+@ConfigurationProperties(prefix = "password-hashing", ignoreUnknownFields = false)
+public record PasswordHashingPropertiesConfig(int threads, int queueCapacity, Integer cost, Duration targetLatency) {
+}
@@ -0,0 +1,20 @@
+package com.onevoker.timetracker.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Period;
+
+/***
+ * @param retention       records older than it are moved to records_archive
+ * @param rowsPerSecond   upper bound of the archival rate, keeps the load on the database flat
+ * @param staleRunTimeout running archival without progress for this long is considered interrupted
+ * @param cron            schedule of RecordArchivalServiceImpl, "-" disables it
+ */
+@ConfigurationProperties(prefix = "record-archival", ignoreUnknownFields = false)
+public record RecordArchivalPropertiesConfig(Period retention,
+                                             int chunkSize,
+                                             int rowsPerSecond,
+                                             Duration staleRunTimeout,
+                                             String cron) {
+}
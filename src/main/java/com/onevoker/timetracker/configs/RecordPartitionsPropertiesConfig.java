@@ -0,0 +1,11 @@
+package com.onevoker.timetracker.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/***
+ * @param monthsAhead partitions are kept created for the current month and this many next ones
+ * @param cron        schedule of RecordPartitionServiceImpl, partitions are also checked on startup
+ */
+@ConfigurationProperties(prefix = "record-partitions", ignoreUnknownFields = false)
+public record RecordPartitionsPropertiesConfig(int monthsAhead, String cron) {
+}
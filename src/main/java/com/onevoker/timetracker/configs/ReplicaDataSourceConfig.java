@@ -0,0 +1,103 @@
+package com.onevoker.timetracker.configs;
+
+import com.onevoker.timetracker.dataSource.ReplicaLagMonitor;
+import com.onevoker.timetracker.dataSource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/***
+ * Active with replica-datasource.enabled=true, then read-only transactions run on the replica pool
+ * and everything else on the primary pool from spring.datasource
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "replica-datasource", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    private static final String PRIMARY_POOL_NAME = "primary";
+    private static final String REPLICA_POOL_NAME = "replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(PRIMARY_POOL_NAME);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              ReplicaDataSourcePropertiesConfig replicaDataSourcePropertiesConfig) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.getDriverClassName())
+                .url(replicaDataSourcePropertiesConfig.url())
+                .username(replicaDataSourcePropertiesConfig.username())
+                .password(replicaDataSourcePropertiesConfig.password())
+                .build();
+        dataSource.setPoolName(REPLICA_POOL_NAME);
+        dataSource.setMaximumPoolSize(replicaDataSourcePropertiesConfig.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    /***
+     * Used by JPA and JdbcTemplate, the real connection is taken on the first statement,
+     * when the transaction is already marked read-only or not
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(replicaRoutingDataSource);
+        // known defaults, otherwise the proxy opens a connection on startup to read them
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReplicaDataSourcePropertiesConfig replicaDataSourcePropertiesConfig) {
+        return new ReplicaLagMonitor(
+                new JdbcTemplate(replicaDataSource),
+                replicaRoutingDataSource,
+                replicaDataSourcePropertiesConfig.maxLag()
+        );
+    }
+
+    /***
+     * By default a session holds its first connection until it is closed, with open-in-view for the whole request,
+     * so a write after a read-only transaction would go to the replica
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseHibernatePropertiesCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.onevoker.timetracker.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/***
+ * @param maxLag           replica lagging more than this is skipped until it catches up
+ * @param lagCheckInterval how often lag and availability of the replica are checked
+ */
+@ConfigurationProperties(prefix = "replica-datasource", ignoreUnknownFields = false)
+public record ReplicaDataSourcePropertiesConfig(boolean enabled,
+                                                String url,
+                                                String username,
+                                                String password,
+                                                int maximumPoolSize,
+                                                Duration maxLag,
+                                                Duration lagCheckInterval) {
+}
@@ -15,7 +15,7 @@ public record SecurityPropertiesConfig(
         @Bean
         SecurityFilterProperties securityFilterProperties
 ) {
-    public record Jwt(String secretKey, Duration tokenLifetime) {
+    public record Jwt(String secretKey, Duration tokenLifetime, long principalCacheSize) {
     }
 
     public record ClaimNames(String usernameClaimName, String authoritiesClaimName) {
@@ -0,0 +1,56 @@
+package com.onevoker.timetracker.configs;
+
+import com.onevoker.timetracker.dataSource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/***
+ * Active with spring.threads.virtual.enabled=true, then Tomcat and async tasks run on virtual threads
+ * and Hikari is guarded by {@link ConnectionLimitingDataSource} sized as the pool
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource) {
+                    return new ConnectionLimitingDataSource(
+                            hikariDataSource,
+                            hikariDataSource.getMaximumPoolSize(),
+                            Duration.ofMillis(hikariDataSource.getConnectionTimeout())
+                    );
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    /***
+     * Waiting threads queue on the semaphore, not in Hikari, so pool metrics do not show the contention
+     */
+    @Bean
+    public MeterBinder connectionLimitingDataSourceMetrics(Map<String, DataSource> dataSources) {
+        return meterRegistry -> dataSources.forEach((name, dataSource) -> {
+            if (dataSource instanceof ConnectionLimitingDataSource connectionLimitingDataSource) {
+                Gauge.builder(MetricNames.DATASOURCE_WAITING_METRIC, connectionLimitingDataSource,
+                                ConnectionLimitingDataSource::getWaitingThreads)
+                        .tag("name", name)
+                        .register(meterRegistry);
+            }
+        });
+    }
+}
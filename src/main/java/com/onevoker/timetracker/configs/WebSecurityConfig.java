@@ -2,10 +2,16 @@ package com.onevoker.timetracker.configs;
 
 import com.onevoker.timetracker.controllers.exceptionHandlers.UnauthorizedHandler;
 import com.onevoker.timetracker.controllers.filters.JwtAuthenticationFilter;
+import com.onevoker.timetracker.security.passwordHashing.BCryptCostCalibrator;
+import com.onevoker.timetracker.security.passwordHashing.PooledPasswordEncoder;
 import com.onevoker.timetracker.security.services.UserPrincipalService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -13,7 +19,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -29,11 +34,13 @@ public class WebSecurityConfig {
     private final UserPrincipalService userPrincipalService;
     private final UnauthorizedHandler unauthorizedHandler;
     private final SecurityPropertiesConfig.SecurityFilterProperties securityFilterProperties;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         List<String> permitAllRequests = securityFilterProperties.permitAllRequests();
         String pattern = securityFilterProperties.securityUrlPattern();
+        boolean separateManagementPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -46,6 +53,11 @@ public class WebSecurityConfig {
                 .securityMatcher(pattern)
                 .authorizeHttpRequests(registry -> {
                             permitAllRequests.forEach(request -> registry.requestMatchers(request).permitAll());
+                            // actuator is served only on the management port, reachable from the internal network,
+                            // on the same port as the API its endpoints stay authenticated
+                            if (separateManagementPort) {
+                                registry.requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll();
+                            }
                             registry.anyRequest().authenticated();
                         }
                 );
@@ -54,16 +66,27 @@ public class WebSecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PooledPasswordEncoder passwordEncoder(PasswordHashingPropertiesConfig passwordHashingProperties,
+                                                 MeterRegistry meterRegistry) {
+        Integer cost = passwordHashingProperties.cost();
+        if (cost == null) {
+            cost = BCryptCostCalibrator.calibrate(passwordHashingProperties.targetLatency());
+        }
+
+        return new PooledPasswordEncoder(
+                cost,
+                passwordHashingProperties.threads(),
+                passwordHashingProperties.queueCapacity(),
+                meterRegistry
+        );
     }
 
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
+    public AuthenticationManager authenticationManager(HttpSecurity http, PasswordEncoder passwordEncoder) throws Exception {
         AuthenticationManagerBuilder builder = http.getSharedObject(AuthenticationManagerBuilder.class);
         builder
                 .userDetailsService(userPrincipalService)
-                .passwordEncoder(passwordEncoder());
+                .passwordEncoder(passwordEncoder);
         return builder.build();
     }
 }
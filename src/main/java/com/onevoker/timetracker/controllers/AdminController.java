@@ -1,12 +1,19 @@
 package com.onevoker.timetracker.controllers;
 
+import com.onevoker.timetracker.domain.services.interfaces.RecordArchivalService;
+import com.onevoker.timetracker.dto.RecordArchivalRun;
 import com.onevoker.timetracker.dto.auth.AuthRequest;
 import com.onevoker.timetracker.security.services.RoleManagementService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/admin")
 @PreAuthorize("hasRole('ROLE_Admin')")
@@ -14,6 +21,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AdminController {
     private final RoleManagementService roleManagementService;
+    private final RecordArchivalService recordArchivalService;
+
+    private static final String DEFAULT_ARCHIVAL_RUNS_LIMIT = "20";
+    private static final int MAX_ARCHIVAL_RUNS_LIMIT = 100;
 
     @PostMapping("/add-role")
     public String addRoleToUser(@RequestParam String username, @RequestParam String roleName) {
@@ -24,4 +35,24 @@ public class AdminController {
     public String createUserWithRole(@RequestBody AuthRequest authRequest, @RequestParam String roleName) {
         return roleManagementService.createUserWithRole(authRequest, roleName);
     }
+
+    /***
+     * Archival runs in background, its progress is available from GET /admin/archival-runs/{id}
+     */
+    @PostMapping("/archival-runs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public RecordArchivalRun startArchival() {
+        return recordArchivalService.startArchival();
+    }
+
+    @GetMapping("/archival-runs")
+    public List<RecordArchivalRun> getArchivalRuns(@RequestParam(defaultValue = DEFAULT_ARCHIVAL_RUNS_LIMIT)
+                                                   @Min(1) @Max(MAX_ARCHIVAL_RUNS_LIMIT) int limit) {
+        return recordArchivalService.getArchivalRuns(limit);
+    }
+
+    @GetMapping("/archival-runs/{id}")
+    public RecordArchivalRun getArchivalRun(@PathVariable Integer id) {
+        return recordArchivalService.getArchivalRun(id);
+    }
 }
@@ -1,10 +1,16 @@
 package com.onevoker.timetracker.controllers;
 
 import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.User;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +23,11 @@ import java.util.List;
 public class ProjectController {
     private final ProjectService projectService;
 
+    private static final String DEFAULT_PAGE_LIMIT = "50";
+    private static final int MAX_PAGE_LIMIT = 1000;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final CacheControl PAGE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     @PostMapping
     @PreAuthorize("hasRole('ROLE_Admin')")
     public void createProject(@RequestBody Project project) {
@@ -25,8 +36,14 @@ public class ProjectController {
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_User')")
-    public List<Project> getAllProjects() {
-        return projectService.getAllProjects();
+    public ResponseEntity<CursorPage<Project>> getAllProjects(@RequestParam(required = false) @Size(max = MAX_NAME_LENGTH) String prefix,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT)
+                                                              @Min(1) @Max(MAX_PAGE_LIMIT) int limit) {
+        // ETag is added by ShallowEtagHeaderFilter, no-cache lets clients keep the page and revalidate it
+        return ResponseEntity.ok()
+                .cacheControl(PAGE_CACHE_CONTROL)
+                .body(projectService.getAllProjects(prefix, cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -1,15 +1,29 @@
 package com.onevoker.timetracker.controllers;
 
+import com.onevoker.timetracker.domain.export.ExportFormat;
+import com.onevoker.timetracker.domain.export.RecordExportFilter;
+import com.onevoker.timetracker.domain.services.interfaces.RecordExportService;
 import com.onevoker.timetracker.domain.services.interfaces.RecordService;
+import com.onevoker.timetracker.dto.CursorPage;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.security.services.VerifyService;
 import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -20,8 +34,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RecordController {
     private final RecordService recordService;
+    private final RecordExportService recordExportService;
     private final VerifyService verifyService;
 
+    private static final String DEFAULT_PAGE_LIMIT = "100";
+    private static final int MAX_PAGE_LIMIT = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String EXPORT_FILE_NAME = "records.";
+
     @PostMapping("/projects/{projectId}/users/{userId}")
     @PreAuthorize("hasRole('ROLE_User')")
     public void createRecord(@PathVariable Integer userId,
@@ -33,10 +53,56 @@ public class RecordController {
         recordService.createRecord(recordRequest, userId, projectId);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ROLE_User')")
+    public void createRecords(@RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<RecordBatchRequest> recordBatchRequests,
+                              @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        recordBatchRequests.stream()
+                .map(RecordBatchRequest::userId)
+                .distinct()
+                .forEach(userId -> verifyService.verifyUserId(userId, principal));
+        recordService.createRecords(recordBatchRequests);
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ROLE_Admin')")
-    public List<RecordResponse> getAllRecords() {
-        return recordService.getAllRecords();
+    public CursorPage<RecordResponse> getAllRecords(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT)
+                                                    @Min(1) @Max(MAX_PAGE_LIMIT) int limit) {
+        return recordService.getAllRecords(cursor, limit);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_Admin')")
+    public ResponseEntity<StreamingResponseBody> streamAllRecords() {
+        // produces only selects the handler, a bare StreamingResponseBody is sent without Content-Type
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> recordExportService.exportRecords(RecordExportFilter.all(), ExportFormat.NDJSON, outputStream));
+    }
+
+    /***
+     * Rows go from a database cursor straight into the response, gzip is done by server.compression
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ROLE_Admin')")
+    public ResponseEntity<StreamingResponseBody> exportRecords(@RequestParam String format,
+                                                               @RequestParam OffsetDateTime startDate,
+                                                               @RequestParam OffsetDateTime endDate,
+                                                               @RequestParam(required = false) Integer projectId,
+                                                               @RequestParam(required = false) Integer userId) {
+        // parameters are checked before streaming, errors after the first byte can not change the status
+        ExportFormat exportFormat = ExportFormat.from(format);
+        RecordExportFilter filter = new RecordExportFilter(startDate, endDate, projectId, userId);
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(EXPORT_FILE_NAME + exportFormat.getFileExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(outputStream -> recordExportService.exportRecords(filter, exportFormat, outputStream));
     }
 
     @GetMapping("/{id}")
@@ -51,15 +117,13 @@ public class RecordController {
                              @RequestBody RecordRequest recordRequest,
                              @AuthenticationPrincipal UserPrincipal principal
     ) {
-        verifyService.verifyUserByRecordId(id, principal);
-        recordService.updateRecord(id, recordRequest);
+        recordService.updateRecord(id, principal.getUserId(), recordRequest);
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_User')")
     public void deleteRecord(@PathVariable Integer id, @AuthenticationPrincipal UserPrincipal principal) {
-        verifyService.verifyUserForDeleteRecord(id, principal);
-        recordService.deleteRecord(id);
+        recordService.deleteRecord(id, principal.getUserId());
     }
 
     @GetMapping("/projects/{projectId}/between-dates")
@@ -0,0 +1,39 @@
+package com.onevoker.timetracker.controllers;
+
+import com.onevoker.timetracker.domain.reports.ProjectHoursGrouping;
+import com.onevoker.timetracker.domain.reports.UserHoursGrouping;
+import com.onevoker.timetracker.domain.services.interfaces.ReportService;
+import com.onevoker.timetracker.dto.HoursReport;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/reports")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class ReportController {
+    private final ReportService reportService;
+
+    @GetMapping("/projects/{projectId}/hours")
+    @PreAuthorize("hasRole('ROLE_User')")
+    public List<HoursReport> getProjectHours(@PathVariable Integer projectId,
+                                             @RequestParam LocalDate startDate,
+                                             @RequestParam LocalDate endDate,
+                                             @RequestParam String groupBy) {
+        return reportService.getProjectHours(projectId, startDate, endDate, ProjectHoursGrouping.from(groupBy));
+    }
+
+    @GetMapping("/users/{userId}/hours")
+    @PreAuthorize("hasRole('ROLE_User')")
+    public List<HoursReport> getUserHours(@PathVariable Integer userId,
+                                          @RequestParam LocalDate startDate,
+                                          @RequestParam LocalDate endDate,
+                                          @RequestParam String groupBy) {
+        return reportService.getUserHours(userId, startDate, endDate, UserHoursGrouping.from(groupBy));
+    }
+}
@@ -1,6 +1,7 @@
 package com.onevoker.timetracker.controllers;
 
 import com.onevoker.timetracker.domain.services.interfaces.UserService;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.dto.User;
@@ -8,7 +9,12 @@ import com.onevoker.timetracker.dto.auth.AuthRequest;
 import com.onevoker.timetracker.security.services.VerifyService;
 import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -23,10 +29,21 @@ public class UserController {
     private final UserService userService;
     private final VerifyService verifyService;
 
+    private static final String DEFAULT_PAGE_LIMIT = "50";
+    private static final int MAX_PAGE_LIMIT = 1000;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final CacheControl PAGE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     @GetMapping
     @PreAuthorize("hasRole('ROLE_User')")
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<CursorPage<User>> getAllUsers(@RequestParam(required = false) @Size(max = MAX_NAME_LENGTH) String prefix,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT)
+                                                        @Min(1) @Max(MAX_PAGE_LIMIT) int limit) {
+        // ETag is added by ShallowEtagHeaderFilter, no-cache lets clients keep the page and revalidate it
+        return ResponseEntity.ok()
+                .cacheControl(PAGE_CACHE_CONTROL)
+                .body(userService.getAllUsers(prefix, cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -1,13 +1,14 @@
 package com.onevoker.timetracker.controllers.filters;
 
-import com.onevoker.timetracker.security.services.jwt.JwtDecoderService;
-import com.onevoker.timetracker.security.services.jwt.JwtToPrincipalConverterService;
+import com.onevoker.timetracker.configs.MetricNames;
+import com.onevoker.timetracker.security.services.jwt.JwtPrincipalResolverService;
 import com.onevoker.timetracker.security.userPrincipal.UserPrincipalAuthenticationToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -17,21 +18,24 @@ import java.io.IOException;
 import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtDecoderService jwtDecoderService;
-    private final JwtToPrincipalConverterService converter;
+    private final JwtPrincipalResolverService jwtPrincipalResolverService;
+    private final Timer resolveTimer;
 
     private static final String AUTH_HEADER = "Authorization";
     private static final String AUTH_TOKEN_TYPE = "Bearer";
     private static final int START_TOKEN_INDEX = 7;
 
+    public JwtAuthenticationFilter(JwtPrincipalResolverService jwtPrincipalResolverService, MeterRegistry meterRegistry) {
+        this.jwtPrincipalResolverService = jwtPrincipalResolverService;
+        // decode and verification on cache miss, cache lookup on hit
+        this.resolveTimer = Timer.builder(MetricNames.JWT_RESOLVE_METRIC).register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         extractTokenFromRequest(request)
-                .map(jwtDecoderService::decode)
-                .map(converter::convert)
+                .map(token -> resolveTimer.record(() -> jwtPrincipalResolverService.resolve(token)))
                 .map(UserPrincipalAuthenticationToken::new)
                 .ifPresent(auth -> SecurityContextHolder.getContext().setAuthentication(auth));
         filterChain.doFilter(request, response);
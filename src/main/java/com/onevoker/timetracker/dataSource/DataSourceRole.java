@@ -0,0 +1,6 @@
+package com.onevoker.timetracker.dataSource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
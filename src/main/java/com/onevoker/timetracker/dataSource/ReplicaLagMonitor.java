@@ -0,0 +1,36 @@
+package com.onevoker.timetracker.dataSource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/***
+ * Takes the replica out of routing while it is unreachable or lags behind the primary more than {@code maxLag}
+ */
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final Duration maxLag;
+
+    // replay timestamp stands still while the primary has no writes, so a caught up replica counts as not lagging
+    private static final String REPLICA_LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+
+    @Scheduled(fixedDelayString = "${replica-datasource.lag-check-interval}")
+    public void checkReplicaLag() {
+        try {
+            Double lagMillis = replicaJdbcTemplate.queryForObject(REPLICA_LAG_QUERY, Double.class);
+            replicaRoutingDataSource.setReplicaAvailable(lagMillis != null && lagMillis <= maxLag.toMillis());
+        } catch (DataAccessException exception) {
+            replicaRoutingDataSource.setReplicaAvailable(false);
+        }
+    }
+}
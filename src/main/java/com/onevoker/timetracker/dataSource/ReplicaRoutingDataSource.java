@@ -0,0 +1,61 @@
+package com.onevoker.timetracker.dataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/***
+ * Sends connections of read-only transactions to the replica, everything else to the primary.
+ * A transaction is marked read-only only after it gets its connection,
+ * so this data source has to be wrapped in {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ * If the replica is lagging or does not give a connection, the primary is used until {@link ReplicaLagMonitor} sees it healthy
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+        setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource
+        ));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceRole.REPLICA
+                : DataSourceRole.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != DataSourceRole.REPLICA) {
+            return getPrimaryDataSource().getConnection();
+        }
+
+        try {
+            return getResolvedDataSources().get(DataSourceRole.REPLICA).getConnection();
+        } catch (SQLException exception) {
+            replicaAvailable = false;
+            return getPrimaryDataSource().getConnection();
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    private DataSource getPrimaryDataSource() {
+        return getResolvedDataSources().get(DataSourceRole.PRIMARY);
+    }
+}
@@ -0,0 +1,7 @@
+package com.onevoker.timetracker.domain.archival;
+
+public enum RecordArchivalStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -11,13 +11,17 @@ import java.util.List;
 
 @Entity
 @Table(name = "projects")
+@NamedEntityGraph(name = ProjectEntity.WITH_USERS_GRAPH, attributeNodes = @NamedAttributeNode("userEntities"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProjectEntity {
+    public static final String WITH_USERS_GRAPH = "ProjectEntity.withUsers";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_id_seq")
+    @SequenceGenerator(name = "projects_id_seq", sequenceName = "projects_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(nullable = false, unique = true)
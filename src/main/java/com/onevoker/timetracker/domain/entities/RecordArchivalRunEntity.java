@@ -0,0 +1,46 @@
+package com.onevoker.timetracker.domain.entities;
+
+import com.onevoker.timetracker.domain.archival.RecordArchivalStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "record_archival_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordArchivalRunEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "record_archival_runs_id_seq")
+    @SequenceGenerator(name = "record_archival_runs_id_seq", sequenceName = "record_archival_runs_id_seq", allocationSize = 50)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecordArchivalStatus status;
+
+    // records created before it are archived
+    @Column(nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime horizon;
+
+    @Column(nullable = false)
+    private long archivedRecords;
+
+    @Column(nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime startedAt;
+
+    // moved on every chunk, a running run without progress is considered interrupted
+    @Column(nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime updatedAt;
+
+    @Column(columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime finishedAt;
+
+    private String error;
+}
@@ -18,8 +18,11 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecordEntity {
+    // table is partitioned by created_at, so its primary key is (id, created_at), ids are still unique
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // sequence allows JDBC insert batching, IDENTITY disables it
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "records_id_seq")
+    @SequenceGenerator(name = "records_id_seq", sequenceName = "records_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -11,13 +11,18 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@NamedEntityGraph(name = UserEntity.WITH_ROLES_GRAPH, attributeNodes = @NamedAttributeNode("roleEntities"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserEntity {
+    // authentication needs roles, any other use case loads user only
+    public static final String WITH_ROLES_GRAPH = "UserEntity.withRoles";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(nullable = false, unique = true)
@@ -26,7 +31,7 @@ public class UserEntity {
     @Column(nullable = false)
     private String password;
 
-    @OneToMany(fetch = FetchType.EAGER)
+    @OneToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "users_roles",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"),
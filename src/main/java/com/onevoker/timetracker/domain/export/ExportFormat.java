@@ -0,0 +1,31 @@
+package com.onevoker.timetracker.domain.export;
+
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    private static final String INVALID_FORMAT_MESSAGE = "format must be one of: csv, ndjson";
+
+    /***
+     * @throws InvalidRequestParameterException
+     *          If value does not match any format, case is ignored
+     */
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestParameterException(INVALID_FORMAT_MESSAGE));
+    }
+}
@@ -0,0 +1,26 @@
+package com.onevoker.timetracker.domain.export;
+
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+
+import java.time.OffsetDateTime;
+
+/***
+ * Validated on creation, so a wrong filter fails before the response starts streaming
+ * @param startDate null for no lower bound
+ * @param endDate   null for no upper bound
+ * @param projectId null for all projects
+ * @param userId    null for all users
+ */
+public record RecordExportFilter(OffsetDateTime startDate, OffsetDateTime endDate, Integer projectId, Integer userId) {
+    private static final String WRONG_DATES_MESSAGE = "startDate must not be after endDate";
+
+    public RecordExportFilter {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidRequestParameterException(WRONG_DATES_MESSAGE);
+        }
+    }
+
+    public static RecordExportFilter all() {
+        return new RecordExportFilter(null, null, null, null);
+    }
+}
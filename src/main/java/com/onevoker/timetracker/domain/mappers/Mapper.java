@@ -1,9 +1,15 @@
 package com.onevoker.timetracker.domain.mappers;
 
 import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RecordArchivalRunEntity;
 import com.onevoker.timetracker.domain.entities.RecordEntity;
 import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.projections.HoursAggregate;
+import com.onevoker.timetracker.domain.projections.RecordRow;
+import com.onevoker.timetracker.dto.HoursReport;
 import com.onevoker.timetracker.dto.Project;
+import com.onevoker.timetracker.dto.RecordArchivalRun;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.dto.User;
@@ -20,5 +26,13 @@ public interface Mapper {
 
     RecordResponse getRecordResponse(RecordEntity recordEntity);
 
+    RecordResponse getRecordResponse(RecordRow recordRow);
+
     RecordEntity getRecordEntity(RecordRequest recordRequest);
+
+    RecordEntity getRecordEntity(RecordBatchRequest recordBatchRequest);
+
+    HoursReport getHoursReport(HoursAggregate hoursAggregate);
+
+    RecordArchivalRun getRecordArchivalRun(RecordArchivalRunEntity recordArchivalRunEntity);
 }
@@ -1,9 +1,15 @@
 package com.onevoker.timetracker.domain.mappers;
 
 import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RecordArchivalRunEntity;
 import com.onevoker.timetracker.domain.entities.RecordEntity;
 import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.projections.HoursAggregate;
+import com.onevoker.timetracker.domain.projections.RecordRow;
+import com.onevoker.timetracker.dto.HoursReport;
 import com.onevoker.timetracker.dto.Project;
+import com.onevoker.timetracker.dto.RecordArchivalRun;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.dto.User;
@@ -41,6 +47,17 @@ public class MapperService implements Mapper {
         );
     }
 
+    @Override
+    public RecordResponse getRecordResponse(RecordRow recordRow) {
+        return new RecordResponse(
+                recordRow.projectName(),
+                recordRow.username(),
+                recordRow.hours(),
+                recordRow.description(),
+                recordRow.createdAt()
+        );
+    }
+
     @Override
     public RecordEntity getRecordEntity(RecordRequest recordRequest) {
         RecordEntity recordEntity = new RecordEntity();
@@ -48,4 +65,34 @@ public class MapperService implements Mapper {
         recordEntity.setDescription(recordRequest.description());
         return recordEntity;
     }
+
+    @Override
+    public RecordEntity getRecordEntity(RecordBatchRequest recordBatchRequest) {
+        RecordEntity recordEntity = new RecordEntity();
+        recordEntity.setHours(recordBatchRequest.hours());
+        recordEntity.setDescription(recordBatchRequest.description());
+        return recordEntity;
+    }
+
+    @Override
+    public HoursReport getHoursReport(HoursAggregate hoursAggregate) {
+        return new HoursReport(
+                hoursAggregate.getGrouping(),
+                hoursAggregate.getTotalHours(),
+                hoursAggregate.getRecordsCount()
+        );
+    }
+
+    @Override
+    public RecordArchivalRun getRecordArchivalRun(RecordArchivalRunEntity recordArchivalRunEntity) {
+        return new RecordArchivalRun(
+                recordArchivalRunEntity.getId(),
+                recordArchivalRunEntity.getStatus(),
+                recordArchivalRunEntity.getHorizon(),
+                recordArchivalRunEntity.getArchivedRecords(),
+                recordArchivalRunEntity.getStartedAt(),
+                recordArchivalRunEntity.getFinishedAt(),
+                recordArchivalRunEntity.getError()
+        );
+    }
 }
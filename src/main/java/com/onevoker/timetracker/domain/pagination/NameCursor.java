@@ -0,0 +1,30 @@
+package com.onevoker.timetracker.domain.pagination;
+
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/***
+ * Position in a list ordered by a unique name, such as usernames or project names.
+ * Clients get it as an opaque base64 string.
+ */
+public record NameCursor(String name) {
+    private static final String INVALID_CURSOR_MESSAGE = "Cursor is invalid, use nextCursor from the previous page";
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /***
+     * @throws InvalidRequestParameterException
+     *          If cursor was not created by {@link #encode()}
+     */
+    public static NameCursor decode(String cursor) {
+        try {
+            return new NameCursor(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidRequestParameterException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.onevoker.timetracker.domain.pagination;
+
+/***
+ * Names starting with a prefix, as the range [from, to) in "C" collation.
+ * Unlike LIKE 'prefix%', a range with bound parameters can use the index in generic plans too.
+ * No prefix means all names.
+ */
+public record NamePrefix(String from, String to) {
+    // names starting with the prefix sort below the prefix followed by the largest code point
+    private static final String MAX_CODE_POINT = Character.toString(Character.MAX_CODE_POINT);
+
+    public static NamePrefix of(String prefix) {
+        String from = prefix == null ? "" : prefix;
+        return new NamePrefix(from, from + MAX_CODE_POINT);
+    }
+}
@@ -0,0 +1,40 @@
+package com.onevoker.timetracker.domain.pagination;
+
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/***
+ * Position in the records timeline, ordered by (createdAt, id).
+ * Clients get it as an opaque base64 string.
+ */
+public record RecordCursor(OffsetDateTime createdAt, Integer id) {
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "Cursor is invalid, use nextCursor from the previous page";
+
+    public String encode() {
+        String value = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /***
+     * @throws InvalidRequestParameterException
+     *          If cursor was not created by {@link #encode()}
+     */
+    public static RecordCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+
+            return new RecordCursor(
+                    OffsetDateTime.parse(value.substring(0, separatorIndex)),
+                    Integer.valueOf(value.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException exception) {
+            throw new InvalidRequestParameterException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.onevoker.timetracker.domain.projections;
+
+/***
+ * Row of a GROUP BY query over records, column aliases must match getter names
+ */
+public interface HoursAggregate {
+    String getGrouping();
+
+    Long getTotalHours();
+
+    Long getRecordsCount();
+}
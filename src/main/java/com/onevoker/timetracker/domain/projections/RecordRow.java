@@ -0,0 +1,16 @@
+package com.onevoker.timetracker.domain.projections;
+
+import java.time.OffsetDateTime;
+
+/***
+ * Record with its project name and username, selected by one joined query.
+ * Unlike RecordResponse it keeps the id, which keyset pagination needs for the cursor.
+ */
+public record RecordRow(Integer id,
+                        String projectName,
+                        String username,
+                        Integer hours,
+                        String description,
+                        OffsetDateTime createdAt
+) {
+}
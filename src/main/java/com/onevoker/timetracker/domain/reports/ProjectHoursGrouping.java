@@ -0,0 +1,24 @@
+package com.onevoker.timetracker.domain.reports;
+
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+
+import java.util.Arrays;
+
+public enum ProjectHoursGrouping {
+    USER,
+    DAY,
+    WEEK;
+
+    private static final String INVALID_GROUPING_MESSAGE = "groupBy must be one of: user, day, week";
+
+    /***
+     * @throws InvalidRequestParameterException
+     *          If value does not match any grouping, case is ignored
+     */
+    public static ProjectHoursGrouping from(String value) {
+        return Arrays.stream(values())
+                .filter(grouping -> grouping.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestParameterException(INVALID_GROUPING_MESSAGE));
+    }
+}
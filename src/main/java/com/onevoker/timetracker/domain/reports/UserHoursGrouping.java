@@ -0,0 +1,24 @@
+package com.onevoker.timetracker.domain.reports;
+
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+
+import java.util.Arrays;
+
+public enum UserHoursGrouping {
+    PROJECT,
+    DAY,
+    WEEK;
+
+    private static final String INVALID_GROUPING_MESSAGE = "groupBy must be one of: project, day, week";
+
+    /***
+     * @throws InvalidRequestParameterException
+     *          If value does not match any grouping, case is ignored
+     */
+    public static UserHoursGrouping from(String value) {
+        return Arrays.stream(values())
+                .filter(grouping -> grouping.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestParameterException(INVALID_GROUPING_MESSAGE));
+    }
+}
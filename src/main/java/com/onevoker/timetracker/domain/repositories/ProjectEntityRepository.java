@@ -1,12 +1,78 @@
 package com.onevoker.timetracker.domain.repositories;
 
 import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ProjectEntityRepository extends JpaRepository<ProjectEntity, Integer> {
     boolean existsByName(String name);
 
     Optional<ProjectEntity> findByName(String name);
-}
\ No newline at end of file
+
+    /***
+     * Project with its members in one query
+     */
+    @EntityGraph(ProjectEntity.WITH_USERS_GRAPH)
+    Optional<ProjectEntity> findWithUsersById(Integer id);
+
+    /***
+     * Looks up one users_projects row instead of loading all members
+     */
+    boolean existsByIdAndUserEntitiesId(Integer id, Integer userId);
+
+    /***
+     * Writes one users_projects row, changing the owning bag of {@link ProjectEntity}
+     * loads all members and on removal rewrites every row of the project
+     * @return 0 if the user is already in the project
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO users_projects (user_id, project_id)
+            VALUES (:userId, :id)
+            ON CONFLICT ON CONSTRAINT unique_user_project_pair DO NOTHING
+            """, nativeQuery = true)
+    int addUser(Integer id, Integer userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM users_projects WHERE project_id = :id AND user_id = :userId", nativeQuery = true)
+    int deleteUser(Integer id, Integer userId);
+
+    /***
+     * Keyset pages ordered by name in "C" collation, served by projects_name_c_idx.
+     * Names are in [from, to), see {@link com.onevoker.timetracker.domain.pagination.NamePrefix}
+     */
+    @Query(value = """
+            SELECT p.* FROM projects p
+            WHERE p.name COLLATE "C" >= :from AND p.name COLLATE "C" < :to
+            ORDER BY p.name COLLATE "C"
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ProjectEntity> findFirstPage(String from, String to, int limit);
+
+    @Query(value = """
+            SELECT p.* FROM projects p
+            WHERE p.name COLLATE "C" >= :from AND p.name COLLATE "C" < :to
+            AND p.name COLLATE "C" > :after
+            ORDER BY p.name COLLATE "C"
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ProjectEntity> findPageAfter(String from, String to, String after, int limit);
+
+    /***
+     * Updates name and description in one statement, unchanged rows are skipped
+     * @return 0 if project does not exist or already has these name and description
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ProjectEntity p
+            SET p.name = :name, p.description = :description
+            WHERE p.id = :id
+            AND (p.name <> :name OR p.description IS DISTINCT FROM :description)
+            """)
+    int updateNameAndDescription(Integer id, String name, String description);
+}
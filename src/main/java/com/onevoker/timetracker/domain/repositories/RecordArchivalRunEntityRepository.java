@@ -0,0 +1,58 @@
+package com.onevoker.timetracker.domain.repositories;
+
+import com.onevoker.timetracker.domain.archival.RecordArchivalStatus;
+import com.onevoker.timetracker.domain.entities.RecordArchivalRunEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/***
+ * Updates commit on their own, progress of a running archival is visible while it runs.
+ * Progress and finish only touch running runs, a run failed as stale is never overwritten
+ */
+public interface RecordArchivalRunEntityRepository extends JpaRepository<RecordArchivalRunEntity, Integer> {
+    List<RecordArchivalRunEntity> findByOrderByIdDesc(Limit limit);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE RecordArchivalRunEntity r
+            SET r.archivedRecords = :archivedRecords, r.updatedAt = :updatedAt
+            WHERE r.id = :id AND r.status = :running
+            """)
+    int updateProgress(Integer id, long archivedRecords, OffsetDateTime updatedAt, RecordArchivalStatus running);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE RecordArchivalRunEntity r
+            SET r.status = :status, r.error = :error, r.updatedAt = :finishedAt, r.finishedAt = :finishedAt
+            WHERE r.id = :id AND r.status = :running
+            """)
+    int finish(Integer id,
+               RecordArchivalStatus status,
+               String error,
+               OffsetDateTime finishedAt,
+               RecordArchivalStatus running);
+
+    /***
+     * Fails runs of crashed or stopped instances, so a new run can take over
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE RecordArchivalRunEntity r
+            SET r.status = :failed, r.error = :error, r.finishedAt = :finishedAt
+            WHERE r.status = :running AND r.updatedAt < :updatedBefore
+            """)
+    int failStaleRuns(OffsetDateTime updatedBefore,
+                      String error,
+                      OffsetDateTime finishedAt,
+                      RecordArchivalStatus running,
+                      RecordArchivalStatus failed);
+}
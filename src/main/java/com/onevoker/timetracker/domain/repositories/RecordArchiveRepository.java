@@ -0,0 +1,65 @@
+package com.onevoker.timetracker.domain.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+/***
+ * Moves records into records_archive, DDL is in migrations/records_archive.sql
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordArchiveRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // oldest records first, rows locked by running updates are left for the next run.
+    // An id already in the archive fails the whole chunk, so a deleted record is never dropped silently
+    private static final String ARCHIVE_CHUNK = """
+            WITH chunk AS (
+                SELECT id, created_at
+                FROM records
+                WHERE created_at < ?
+                ORDER BY created_at, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM records r
+                USING chunk c
+                WHERE r.id = c.id AND r.created_at = c.created_at
+                RETURNING r.id, r.user_id, r.project_id, r.hours, r.description, r.created_at
+            ), archived AS (
+                INSERT INTO records_archive (id, user_id, project_id, hours, description, created_at, archived_at)
+                SELECT id, user_id, project_id, hours, description, created_at, now()
+                FROM moved
+            )
+            SELECT COUNT(*) FROM moved
+            """;
+
+    /***
+     * Deletes and archives one chunk in one transaction, so a failed chunk leaves no partial state.
+     * Throws DuplicateKeyException when a record of the chunk is already archived.
+     * The rollup trigger skips these deletes, archived records stay in reports
+     * @return number of moved records, less than chunkSize when nothing is left
+     */
+    @Transactional
+    public int archiveChunk(OffsetDateTime horizon, int chunkSize) {
+        setArchiving(true);
+        Integer archived = jdbcTemplate.queryForObject(ARCHIVE_CHUNK, Integer.class, horizon, chunkSize);
+        // the flag is transaction local, reset it in case an outer transaction goes on
+        setArchiving(false);
+
+        return archived == null ? 0 : archived;
+    }
+
+    public long countArchivedRecords() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM records_archive", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private void setArchiving(boolean archiving) {
+        jdbcTemplate.queryForList("SELECT set_config('timetracker.archiving', ?, TRUE)", archiving ? "on" : "off");
+    }
+}
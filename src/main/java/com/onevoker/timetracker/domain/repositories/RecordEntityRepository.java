@@ -1,20 +1,97 @@
 package com.onevoker.timetracker.domain.repositories;
 
 import com.onevoker.timetracker.domain.entities.RecordEntity;
+import com.onevoker.timetracker.domain.projections.RecordRow;
+import com.onevoker.timetracker.dto.RecordResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 
+/***
+ * Read queries select DTOs in one joined statement,
+ * so project and user are never loaded lazily row by row.
+ * Records are partitioned by created_at, but the API addresses them by id only:
+ * findById, findUserIdById, updateByIdAndUserId and deleteByIdAndUserId can't prune partitions
+ * and probe the primary key index of every partition, archival keeps their number bounded.
+ */
 public interface RecordEntityRepository extends JpaRepository<RecordEntity, Integer> {
-    List<RecordEntity> findByProjectEntityIdAndUserEntityIdAndCreatedAtBetween(Integer projectId,
-                                                                               Integer userId,
-                                                                               OffsetDateTime startDate,
-                                                                               OffsetDateTime endDate);
+    String SELECT_RECORD_RESPONSE = """
+            SELECT new com.onevoker.timetracker.dto.RecordResponse(p.name, u.username, r.hours, r.description, r.createdAt)
+            FROM RecordEntity r
+            JOIN r.projectEntity p
+            JOIN r.userEntity u
+            """;
 
-    List<RecordEntity> findByUserEntityIdAndCreatedAtBetween(Integer userId, OffsetDateTime startDate, OffsetDateTime endDate);
+    String SELECT_RECORD_ROW = """
+            SELECT new com.onevoker.timetracker.domain.projections.RecordRow(r.id, p.name, u.username, r.hours, r.description, r.createdAt)
+            FROM RecordEntity r
+            JOIN r.projectEntity p
+            JOIN r.userEntity u
+            """;
 
-    List<RecordEntity> findByCreatedAtBetween(OffsetDateTime startDate, OffsetDateTime endDate);
+    @Query(SELECT_RECORD_RESPONSE + """
+            WHERE r.projectEntity.id = :projectId
+            AND r.userEntity.id = :userId
+            AND r.createdAt BETWEEN :startDate AND :endDate
+            """)
+    List<RecordResponse> findByProjectIdAndUserIdBetween(Integer projectId,
+                                                         Integer userId,
+                                                         OffsetDateTime startDate,
+                                                         OffsetDateTime endDate);
 
-    List<RecordEntity> findByProjectEntityIdAndCreatedAtBetween(Integer projectId, OffsetDateTime startDate, OffsetDateTime endDate);
-}
\ No newline at end of file
+    @Query(SELECT_RECORD_RESPONSE + """
+            WHERE r.userEntity.id = :userId
+            AND r.createdAt BETWEEN :startDate AND :endDate
+            """)
+    List<RecordResponse> findByUserIdBetween(Integer userId, OffsetDateTime startDate, OffsetDateTime endDate);
+
+    @Query(SELECT_RECORD_RESPONSE + """
+            WHERE r.createdAt BETWEEN :startDate AND :endDate
+            """)
+    List<RecordResponse> findAllBetween(OffsetDateTime startDate, OffsetDateTime endDate);
+
+    @Query(SELECT_RECORD_RESPONSE + """
+            WHERE r.projectEntity.id = :projectId
+            AND r.createdAt BETWEEN :startDate AND :endDate
+            """)
+    List<RecordResponse> findByProjectIdBetween(Integer projectId, OffsetDateTime startDate, OffsetDateTime endDate);
+
+    @Query(SELECT_RECORD_ROW + """
+            ORDER BY r.createdAt, r.id
+            """)
+    List<RecordRow> findFirstPage(Pageable pageable);
+
+    @Query(SELECT_RECORD_ROW + """
+            WHERE r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id)
+            ORDER BY r.createdAt, r.id
+            """)
+    List<RecordRow> findPageAfter(OffsetDateTime createdAt, Integer id, Pageable pageable);
+
+    @Query("SELECT r.userEntity.id FROM RecordEntity r WHERE r.id = :id")
+    Optional<Integer> findUserIdById(Integer id);
+
+    /***
+     * Ownership check and update in one statement
+     * @return 0 if record does not exist or belongs to another user
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RecordEntity r
+            SET r.hours = :hours, r.description = :description
+            WHERE r.id = :id AND r.userEntity.id = :userId
+            """)
+    int updateByIdAndUserId(Integer id, Integer userId, Integer hours, String description);
+
+    /***
+     * Ownership check and delete in one statement
+     * @return 0 if record does not exist or belongs to another user
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecordEntity r WHERE r.id = :id AND r.userEntity.id = :userId")
+    int deleteByIdAndUserId(Integer id, Integer userId);
+}
@@ -0,0 +1,90 @@
+package com.onevoker.timetracker.domain.repositories;
+
+import com.onevoker.timetracker.domain.export.RecordExportFilter;
+import com.onevoker.timetracker.dto.RecordResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/***
+ * Plain JDBC, rows go from a forward-only cursor to the consumer one by one,
+ * neither a result list nor managed entities are kept in memory
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordExportRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // Postgres uses a cursor instead of reading all rows only with fetch size inside a transaction
+    private static final int FETCH_SIZE = 1000;
+
+    // project_id is NOT NULL, so the inner join keeps every record
+    private static final String SELECT_RECORDS = """
+            SELECT p.name, u.username, r.hours, r.description, r.created_at
+            FROM records r
+            JOIN projects p ON p.id = r.project_id
+            JOIN users u ON u.id = r.user_id
+            """;
+    private static final String START_DATE_CONDITION = "r.created_at >= ?";
+    private static final String END_DATE_CONDITION = "r.created_at <= ?";
+    private static final String PROJECT_CONDITION = "r.project_id = ?";
+    private static final String USER_CONDITION = "r.user_id = ?";
+    private static final String WHERE = "WHERE ";
+    private static final String AND = " AND ";
+    private static final String ORDER = "\nORDER BY r.created_at, r.id";
+
+    /***
+     * Must be called inside a transaction
+     */
+    public void streamRecords(RecordExportFilter filter, Consumer<RecordResponse> consumer) {
+        // conditions are appended only when set, so the planner sees plain predicates and picks a matching index
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        addCondition(conditions, parameters, START_DATE_CONDITION, filter.startDate());
+        addCondition(conditions, parameters, END_DATE_CONDITION, filter.endDate());
+        addCondition(conditions, parameters, PROJECT_CONDITION, filter.projectId());
+        addCondition(conditions, parameters, USER_CONDITION, filter.userId());
+
+        StringBuilder sql = new StringBuilder(SELECT_RECORDS);
+        if (!conditions.isEmpty()) {
+            sql.append(WHERE).append(String.join(AND, conditions));
+        }
+        sql.append(ORDER);
+
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                    );
+                    statement.setFetchSize(FETCH_SIZE);
+                    for (int i = 0; i < parameters.size(); i++) {
+                        statement.setObject(i + 1, parameters.get(i));
+                    }
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(new RecordResponse(
+                            resultSet.getString(1),
+                            resultSet.getString(2),
+                            resultSet.getInt(3),
+                            resultSet.getString(4),
+                            resultSet.getObject(5, OffsetDateTime.class)
+                    ));
+                }
+        );
+    }
+
+    private static void addCondition(List<String> conditions, List<Object> parameters, String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            parameters.add(value);
+        }
+    }
+}
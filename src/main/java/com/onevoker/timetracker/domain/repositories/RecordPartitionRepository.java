@@ -0,0 +1,42 @@
+package com.onevoker.timetracker.domain.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/***
+ * Monthly partitions of records, DDL is in migrations/records_partitioning.sql
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordPartitionRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /***
+     * Idempotent, existing partitions are skipped
+     */
+    public void createPartitions(LocalDate fromMonth, LocalDate toMonth) {
+        jdbcTemplate.queryForList("SELECT create_records_partitions(?, ?)", fromMonth, toMonth);
+    }
+
+    /***
+     * Called after archival, rows of archived months are gone and their partitions are only overhead
+     * @return names of dropped partitions
+     */
+    public List<String> dropEmptyPartitionsBefore(LocalDate month) {
+        return jdbcTemplate.queryForList("SELECT drop_empty_records_partitions(?)", String.class, month);
+    }
+
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'records'::regclass
+                ORDER BY c.relname
+                """, String.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.onevoker.timetracker.domain.repositories;
+
+import com.onevoker.timetracker.domain.entities.RecordEntity;
+import com.onevoker.timetracker.domain.projections.HoursAggregate;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/***
+ * Aggregates over records read from records_daily_rollup, which a trigger keeps in sync with records.
+ * Days are UTC dates, periods are formatted as the ISO date of their first day.
+ * Date ranges are inclusive
+ */
+public interface ReportRepository extends Repository<RecordEntity, Integer> {
+    @Query(value = """
+            SELECT u.username AS "grouping",
+                   CAST(SUM(d.sum_hours) AS BIGINT) AS "totalHours",
+                   CAST(SUM(d.records_count) AS BIGINT) AS "recordsCount"
+            FROM records_daily_rollup d
+            JOIN users u ON u.id = d.user_id
+            WHERE d.project_id = :projectId
+            AND d.day BETWEEN :startDate AND :endDate
+            GROUP BY u.username
+            ORDER BY u.username
+            """, nativeQuery = true)
+    List<HoursAggregate> sumProjectHoursByUser(Integer projectId, LocalDate startDate, LocalDate endDate);
+
+    @Query(value = """
+            SELECT to_char(date_trunc(CAST(:period AS TEXT), CAST(d.day AS TIMESTAMP)), 'YYYY-MM-DD') AS "grouping",
+                   CAST(SUM(d.sum_hours) AS BIGINT) AS "totalHours",
+                   CAST(SUM(d.records_count) AS BIGINT) AS "recordsCount"
+            FROM records_daily_rollup d
+            WHERE d.project_id = :projectId
+            AND d.day BETWEEN :startDate AND :endDate
+            GROUP BY 1
+            ORDER BY 1
+            """, nativeQuery = true)
+    List<HoursAggregate> sumProjectHoursByPeriod(Integer projectId, String period, LocalDate startDate, LocalDate endDate);
+
+    @Query(value = """
+            SELECT p.name AS "grouping",
+                   CAST(SUM(d.sum_hours) AS BIGINT) AS "totalHours",
+                   CAST(SUM(d.records_count) AS BIGINT) AS "recordsCount"
+            FROM records_daily_rollup d
+            JOIN projects p ON p.id = d.project_id
+            WHERE d.user_id = :userId
+            AND d.day BETWEEN :startDate AND :endDate
+            GROUP BY p.name
+            ORDER BY p.name
+            """, nativeQuery = true)
+    List<HoursAggregate> sumUserHoursByProject(Integer userId, LocalDate startDate, LocalDate endDate);
+
+    @Query(value = """
+            SELECT to_char(date_trunc(CAST(:period AS TEXT), CAST(d.day AS TIMESTAMP)), 'YYYY-MM-DD') AS "grouping",
+                   CAST(SUM(d.sum_hours) AS BIGINT) AS "totalHours",
+                   CAST(SUM(d.records_count) AS BIGINT) AS "recordsCount"
+            FROM records_daily_rollup d
+            WHERE d.user_id = :userId
+            AND d.day BETWEEN :startDate AND :endDate
+            GROUP BY 1
+            ORDER BY 1
+            """, nativeQuery = true)
+    List<HoursAggregate> sumUserHoursByPeriod(Integer userId, String period, LocalDate startDate, LocalDate endDate);
+}
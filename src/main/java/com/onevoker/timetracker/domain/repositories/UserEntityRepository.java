@@ -1,12 +1,42 @@
 package com.onevoker.timetracker.domain.repositories;
 
 import com.onevoker.timetracker.domain.entities.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserEntityRepository extends JpaRepository<UserEntity, Integer> {
     Optional<UserEntity> findByUsername(String username);
 
+    /***
+     * User with roles in one query, for authentication
+     */
+    @EntityGraph(UserEntity.WITH_ROLES_GRAPH)
+    Optional<UserEntity> findWithRolesByUsername(String username);
+
     boolean existsByUsername(String username);
+
+    /***
+     * Keyset pages ordered by username in "C" collation, served by users_username_c_idx.
+     * Usernames are in [from, to), see {@link com.onevoker.timetracker.domain.pagination.NamePrefix}
+     */
+    @Query(value = """
+            SELECT u.* FROM users u
+            WHERE u.username COLLATE "C" >= :from AND u.username COLLATE "C" < :to
+            ORDER BY u.username COLLATE "C"
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UserEntity> findFirstPage(String from, String to, int limit);
+
+    @Query(value = """
+            SELECT u.* FROM users u
+            WHERE u.username COLLATE "C" >= :from AND u.username COLLATE "C" < :to
+            AND u.username COLLATE "C" > :after
+            ORDER BY u.username COLLATE "C"
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UserEntity> findPageAfter(String from, String to, String after, int limit);
 }
\ No newline at end of file
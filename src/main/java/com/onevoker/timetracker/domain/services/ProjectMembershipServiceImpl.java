@@ -0,0 +1,24 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.configs.CacheNames;
+import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectMembershipService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectMembershipServiceImpl implements ProjectMembershipService {
+    private final ProjectEntityRepository projectEntityRepository;
+
+    /***
+     * Only memberships are cached, a user added on another instance is seen at once.
+     * A removal made on another instance is seen after the cache ttl
+     */
+    @Override
+    @Cacheable(cacheNames = CacheNames.PROJECT_MEMBERSHIP, key = CacheNames.PROJECT_MEMBERSHIP_KEY, unless = "!#result")
+    public boolean isUserInProject(Integer projectId, Integer userId) {
+        return projectEntityRepository.existsByIdAndUserEntitiesId(projectId, userId);
+    }
+}
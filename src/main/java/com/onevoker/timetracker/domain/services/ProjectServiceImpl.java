@@ -1,34 +1,46 @@
 package com.onevoker.timetracker.domain.services;
 
+import com.onevoker.timetracker.configs.CacheNames;
+import com.onevoker.timetracker.configs.MetricNames;
 import com.onevoker.timetracker.domain.entities.ProjectEntity;
-import com.onevoker.timetracker.domain.entities.UserEntity;
 import com.onevoker.timetracker.domain.mappers.Mapper;
+import com.onevoker.timetracker.domain.pagination.NameCursor;
+import com.onevoker.timetracker.domain.pagination.NamePrefix;
 import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
 import com.onevoker.timetracker.domain.services.entityFinder.EntityFinder;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectMembershipService;
 import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.User;
 import com.onevoker.timetracker.exceptions.DuplicateDataException;
+import com.onevoker.timetracker.exceptions.NotFoundException;
 import com.onevoker.timetracker.exceptions.SameProjectNameException;
 import com.onevoker.timetracker.exceptions.UserInProjectException;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricNames.SERVICE_METRIC)
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
     private final Mapper mapper;
     private final ProjectEntityRepository projectEntityRepository;
     private final EntityFinder entityFinder;
+    private final ProjectMembershipService projectMembershipService;
 
     private static final String DUPLICATE_MESSAGE = "This project was created before";
     private static final String SAME_PROJECT_NAMES_MESSAGE = "The name of the project is the same as its current name";
     private static final String USER_ALREADY_IN_PROJECT_MESSAGE = "This user is already in the project";
+    private static final String NO_PROJECT_MESSAGE = "This project does not exist";
 
 
     @Override
@@ -41,21 +53,35 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public List<Project> getAllProjects() {
-        return projectEntityRepository.findAll().stream()
-                .map(mapper::getProject)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<Project> getAllProjects(String prefix, String cursor, int limit) {
+        NamePrefix namePrefix = NamePrefix.of(prefix);
+        // one extra row tells whether the next page exists
+        List<ProjectEntity> projectEntities = cursor == null
+                ? projectEntityRepository.findFirstPage(namePrefix.from(), namePrefix.to(), limit + 1)
+                : projectEntityRepository.findPageAfter(namePrefix.from(), namePrefix.to(), NameCursor.decode(cursor).name(), limit + 1);
+
+        if (projectEntities.size() <= limit) {
+            return new CursorPage<>(getProjects(projectEntities), null);
+        }
+
+        List<ProjectEntity> page = projectEntities.subList(0, limit);
+        String nextCursor = new NameCursor(page.getLast().getName()).encode();
+
+        return new CursorPage<>(getProjects(page), nextCursor);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Project getProjectById(Integer id) {
         ProjectEntity projectEntity = entityFinder.getProjectEntity(id);
         return mapper.getProject(projectEntity);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAllUsersOnProject(Integer id) {
-        ProjectEntity projectEntity = entityFinder.getProjectEntity(id);
+        ProjectEntity projectEntity = entityFinder.getProjectEntityWithUsers(id);
         return projectEntity.getUserEntities().stream()
                 .map(mapper::getUser)
                 .collect(Collectors.toList());
@@ -64,44 +90,68 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional
     public void updateProject(Integer id, Project project) {
-        ProjectEntity existProject = entityFinder.getProjectEntity(id);
+        int updatedRows;
         try {
-            if (existProject.getDescription().equals(project.description())) {
-                if (existProject.getName().equals(project.name())) {
-                    throw new SameProjectNameException(SAME_PROJECT_NAMES_MESSAGE);
-                }
-            }
-            existProject.setName(project.name());
-            existProject.setDescription(project.description());
+            updatedRows = projectEntityRepository.updateNameAndDescription(id, project.name(), project.description());
         } catch (DataIntegrityViolationException exception) {
             throw new DuplicateDataException(DUPLICATE_MESSAGE);
         }
+
+        if (updatedRows == 0) {
+            // second query only on the rare path, to tell why nothing was updated
+            if (!projectEntityRepository.existsById(id)) {
+                throw new NotFoundException(NO_PROJECT_MESSAGE);
+            }
+            throw new SameProjectNameException(SAME_PROJECT_NAMES_MESSAGE);
+        }
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJECT_MEMBERSHIP, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.PROJECT_IDS, key = "#id")
+    })
     public void deleteProject(Integer id) {
         projectEntityRepository.deleteById(id);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.PROJECT_MEMBERSHIP, key = CacheNames.PROJECT_MEMBERSHIP_KEY)
     public void addUserToProject(Integer userId, Integer projectId) {
-        ProjectEntity projectEntity = entityFinder.getProjectEntity(projectId);
-        UserEntity userEntity = entityFinder.getUserEntity(userId);
+        // only for NotFoundException, known ids are cached and not queried
+        entityFinder.getProjectReference(projectId);
+        entityFinder.getUserReference(userId);
 
-        if (projectEntity.getUserEntities().contains(userEntity)) {
+        // the insert also misses when a concurrent request added the user after the check
+        if (projectMembershipService.isUserInProject(projectId, userId) || !addUser(projectId, userId)) {
             throw new UserInProjectException(USER_ALREADY_IN_PROJECT_MESSAGE);
         }
-
-        projectEntity.getUserEntities().add(userEntity);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.PROJECT_MEMBERSHIP, key = CacheNames.PROJECT_MEMBERSHIP_KEY)
     public void deleteUserFromProject(Integer userId, Integer projectId) {
-        ProjectEntity projectEntity = entityFinder.getProjectEntity(projectId);
-        UserEntity userEntity = entityFinder.getUserEntity(userId);
+        // only for NotFoundException, known ids are cached and not queried
+        entityFinder.getProjectReference(projectId);
+        entityFinder.getUserReference(userId);
+
+        projectEntityRepository.deleteUser(projectId, userId);
+    }
+
+    private boolean addUser(Integer projectId, Integer userId) {
+        try {
+            return projectEntityRepository.addUser(projectId, userId) > 0;
+        } catch (DataIntegrityViolationException exception) {
+            // a cached id of a project or user deleted on another instance
+            throw entityFinder.getMissingReferenceException(exception, projectId, userId);
+        }
+    }
 
-        projectEntity.getUserEntities().remove(userEntity);
+    private List<Project> getProjects(List<ProjectEntity> projectEntities) {
+        return projectEntities.stream()
+                .map(mapper::getProject)
+                .collect(Collectors.toList());
     }
 }
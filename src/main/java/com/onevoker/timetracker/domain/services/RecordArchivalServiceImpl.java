@@ -0,0 +1,180 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.configs.MetricNames;
+import com.onevoker.timetracker.configs.RecordArchivalPropertiesConfig;
+import com.onevoker.timetracker.domain.archival.RecordArchivalStatus;
+import com.onevoker.timetracker.domain.entities.RecordArchivalRunEntity;
+import com.onevoker.timetracker.domain.mappers.Mapper;
+import com.onevoker.timetracker.domain.repositories.RecordArchivalRunEntityRepository;
+import com.onevoker.timetracker.domain.repositories.RecordArchiveRepository;
+import com.onevoker.timetracker.domain.repositories.RecordPartitionRepository;
+import com.onevoker.timetracker.domain.services.interfaces.RecordArchivalService;
+import com.onevoker.timetracker.dto.RecordArchivalRun;
+import com.onevoker.timetracker.exceptions.ArchivalInProgressException;
+import com.onevoker.timetracker.exceptions.NotFoundException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Timed(MetricNames.SERVICE_METRIC)
+public class RecordArchivalServiceImpl implements RecordArchivalService {
+    private final RecordArchiveRepository recordArchiveRepository;
+    private final RecordArchivalRunEntityRepository recordArchivalRunEntityRepository;
+    private final RecordPartitionRepository recordPartitionRepository;
+    private final RecordArchivalPropertiesConfig recordArchivalPropertiesConfig;
+    private final Mapper mapper;
+    private final TaskExecutor taskExecutor;
+
+    private static final String ARCHIVAL_IN_PROGRESS_MESSAGE = "Archival is already in progress";
+    private static final String NO_ARCHIVAL_RUN_MESSAGE = "This archival run does not exist";
+    private static final String INTERRUPTED_MESSAGE = "Interrupted";
+
+    public RecordArchivalServiceImpl(RecordArchiveRepository recordArchiveRepository,
+                                     RecordArchivalRunEntityRepository recordArchivalRunEntityRepository,
+                                     RecordPartitionRepository recordPartitionRepository,
+                                     RecordArchivalPropertiesConfig recordArchivalPropertiesConfig,
+                                     Mapper mapper,
+                                     @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                     TaskExecutor taskExecutor) {
+        this.recordArchiveRepository = recordArchiveRepository;
+        this.recordArchivalRunEntityRepository = recordArchivalRunEntityRepository;
+        this.recordPartitionRepository = recordPartitionRepository;
+        this.recordArchivalPropertiesConfig = recordArchivalPropertiesConfig;
+        this.mapper = mapper;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public RecordArchivalRun archiveOldRecords() {
+        RecordArchivalRunEntity run = createRun();
+        archive(run);
+        return getArchivalRun(run.getId());
+    }
+
+    @Override
+    public RecordArchivalRun startArchival() {
+        RecordArchivalRunEntity run = createRun();
+        taskExecutor.execute(() -> archive(run));
+        return mapper.getRecordArchivalRun(run);
+    }
+
+    @Scheduled(cron = "${record-archival.cron}", zone = "UTC")
+    public void archiveOldRecordsOnSchedule() {
+        try {
+            archiveOldRecords();
+        } catch (ArchivalInProgressException ignored) {
+            // another instance or a manually started run does the work
+        }
+    }
+
+    @Override
+    public List<RecordArchivalRun> getArchivalRuns(int limit) {
+        return recordArchivalRunEntityRepository.findByOrderByIdDesc(Limit.of(limit)).stream()
+                .map(mapper::getRecordArchivalRun)
+                .toList();
+    }
+
+    @Override
+    public RecordArchivalRun getArchivalRun(Integer id) {
+        return recordArchivalRunEntityRepository.findById(id)
+                .map(mapper::getRecordArchivalRun)
+                .orElseThrow(() -> new NotFoundException(NO_ARCHIVAL_RUN_MESSAGE));
+    }
+
+    private RecordArchivalRunEntity createRun() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        recordArchivalRunEntityRepository.failStaleRuns(
+                now.minus(recordArchivalPropertiesConfig.staleRunTimeout()),
+                INTERRUPTED_MESSAGE,
+                now,
+                RecordArchivalStatus.RUNNING,
+                RecordArchivalStatus.FAILED
+        );
+
+        RecordArchivalRunEntity run = new RecordArchivalRunEntity();
+        run.setStatus(RecordArchivalStatus.RUNNING);
+        run.setHorizon(now.minus(recordArchivalPropertiesConfig.retention()));
+        run.setStartedAt(now);
+        run.setUpdatedAt(now);
+
+        try {
+            // the unique index on running runs is the lock between app instances
+            return recordArchivalRunEntityRepository.saveAndFlush(run);
+        } catch (DataIntegrityViolationException exception) {
+            throw new ArchivalInProgressException(ARCHIVAL_IN_PROGRESS_MESSAGE);
+        }
+    }
+
+    /***
+     * Chunks are moved until one comes back incomplete or the run is no longer running,
+     * every chunk is committed on its own
+     */
+    private void archive(RecordArchivalRunEntity run) {
+        int chunkSize = recordArchivalPropertiesConfig.chunkSize();
+        long archivedRecords = 0;
+        long startNanos = System.nanoTime();
+
+        try {
+            while (true) {
+                int archived = recordArchiveRepository.archiveChunk(run.getHorizon(), chunkSize);
+                archivedRecords += archived;
+                int updated = recordArchivalRunEntityRepository.updateProgress(
+                        run.getId(),
+                        archivedRecords,
+                        OffsetDateTime.now(ZoneOffset.UTC),
+                        RecordArchivalStatus.RUNNING
+                );
+
+                if (updated == 0) {
+                    // failed as stale, another run may already have taken over
+                    return;
+                }
+                if (archived < chunkSize) {
+                    break;
+                }
+                throttle(archivedRecords, startNanos);
+            }
+
+            recordPartitionRepository.dropEmptyPartitionsBefore(run.getHorizon().toLocalDate());
+            finish(run, RecordArchivalStatus.COMPLETED, null);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            finish(run, RecordArchivalStatus.FAILED, INTERRUPTED_MESSAGE);
+        } catch (RuntimeException exception) {
+            finish(run, RecordArchivalStatus.FAILED, exception.getMessage());
+        }
+    }
+
+    /***
+     * Sleeps until the average rate since the start falls to rowsPerSecond
+     */
+    private void throttle(long archivedRecords, long startNanos) throws InterruptedException {
+        long expectedNanos = TimeUnit.SECONDS.toNanos(archivedRecords) / recordArchivalPropertiesConfig.rowsPerSecond();
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+
+    private void finish(RecordArchivalRunEntity run, RecordArchivalStatus status, String error) {
+        recordArchivalRunEntityRepository.finish(
+                run.getId(),
+                status,
+                error,
+                OffsetDateTime.now(ZoneOffset.UTC),
+                RecordArchivalStatus.RUNNING
+        );
+    }
+}
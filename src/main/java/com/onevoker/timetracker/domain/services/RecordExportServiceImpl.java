@@ -0,0 +1,105 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.onevoker.timetracker.configs.MetricNames;
+import com.onevoker.timetracker.domain.export.ExportFormat;
+import com.onevoker.timetracker.domain.export.RecordExportFilter;
+import com.onevoker.timetracker.domain.repositories.RecordExportRepository;
+import com.onevoker.timetracker.domain.services.interfaces.RecordExportService;
+import com.onevoker.timetracker.dto.RecordResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Service
+@Timed(MetricNames.SERVICE_METRIC)
+public class RecordExportServiceImpl implements RecordExportService {
+    private final RecordExportRepository recordExportRepository;
+    private final ObjectWriter ndjsonWriter;
+
+    private static final String CSV_HEADER = "project,username,hours,description,created_at";
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final String CSV_SPECIAL_CHARACTERS = ",\"\r\n";
+    private static final char LINE_SEPARATOR = '\n';
+
+    public RecordExportServiceImpl(RecordExportRepository recordExportRepository, ObjectMapper objectMapper) {
+        this.recordExportRepository = recordExportRepository;
+        // the generator is closed after every value, it must neither close nor flush the shared writer,
+        // a flush per record would send an HTTP chunk and a gzip sync flush per line
+        this.ndjsonWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportRecords(RecordExportFilter filter, ExportFormat format, OutputStream outputStream) {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            Consumer<RecordResponse> recordWriter = switch (format) {
+                case CSV -> {
+                    writer.write(CSV_HEADER);
+                    writer.write(LINE_SEPARATOR);
+                    yield record -> writeCsvLine(writer, record);
+                }
+                case NDJSON -> record -> writeNdjsonLine(writer, record);
+            };
+
+            recordExportRepository.streamRecords(filter, recordWriter);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeCsvLine(Writer writer, RecordResponse record) {
+        try {
+            writer.write(escapeCsv(record.projectName()));
+            writer.write(CSV_SEPARATOR);
+            writer.write(escapeCsv(record.username()));
+            writer.write(CSV_SEPARATOR);
+            writer.write(String.valueOf(record.hours()));
+            writer.write(CSV_SEPARATOR);
+            writer.write(escapeCsv(record.description()));
+            writer.write(CSV_SEPARATOR);
+            writer.write(record.createdAt().toString());
+            writer.write(LINE_SEPARATOR);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeNdjsonLine(Writer writer, RecordResponse record) {
+        try {
+            ndjsonWriter.writeValue(writer, record);
+            writer.write(LINE_SEPARATOR);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /***
+     * RFC 4180: fields with separators, quotes or line breaks are quoted, quotes are doubled
+     */
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.chars().noneMatch(character -> CSV_SPECIAL_CHARACTERS.indexOf(character) >= 0)) {
+            return value;
+        }
+
+        String quote = String.valueOf(CSV_QUOTE);
+        return CSV_QUOTE + value.replace(quote, quote + quote) + CSV_QUOTE;
+    }
+}
@@ -0,0 +1,35 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.configs.RecordPartitionsPropertiesConfig;
+import com.onevoker.timetracker.domain.repositories.RecordPartitionRepository;
+import com.onevoker.timetracker.domain.services.interfaces.RecordPartitionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+@Service
+@RequiredArgsConstructor
+public class RecordPartitionServiceImpl implements RecordPartitionService {
+    private final RecordPartitionRepository recordPartitionRepository;
+    private final RecordPartitionsPropertiesConfig recordPartitionsPropertiesConfig;
+
+    // partition bounds are UTC months
+    private static final Clock UTC_CLOCK = Clock.system(ZoneOffset.UTC);
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${record-partitions.cron}", zone = "UTC")
+    public void createUpcomingPartitions() {
+        LocalDate currentMonth = LocalDate.now(UTC_CLOCK).withDayOfMonth(1);
+        recordPartitionRepository.createPartitions(
+                currentMonth,
+                currentMonth.plusMonths(recordPartitionsPropertiesConfig.monthsAhead())
+        );
+    }
+}
@@ -1,55 +1,126 @@
 package com.onevoker.timetracker.domain.services;
 
+import com.onevoker.timetracker.configs.MetricNames;
 import com.onevoker.timetracker.domain.entities.ProjectEntity;
 import com.onevoker.timetracker.domain.entities.RecordEntity;
 import com.onevoker.timetracker.domain.entities.UserEntity;
 import com.onevoker.timetracker.domain.mappers.Mapper;
+import com.onevoker.timetracker.domain.pagination.RecordCursor;
+import com.onevoker.timetracker.domain.projections.RecordRow;
 import com.onevoker.timetracker.domain.repositories.RecordEntityRepository;
 import com.onevoker.timetracker.domain.services.entityFinder.EntityFinder;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectMembershipService;
 import com.onevoker.timetracker.domain.services.interfaces.RecordService;
+import com.onevoker.timetracker.dto.CursorPage;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
+import com.onevoker.timetracker.exceptions.ApiException;
+import com.onevoker.timetracker.exceptions.NotFoundException;
+import com.onevoker.timetracker.exceptions.UnauthorizedUserException;
 import com.onevoker.timetracker.exceptions.UserNotInProjectException;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricNames.SERVICE_METRIC)
 @RequiredArgsConstructor
 public class RecordServiceImpl implements RecordService {
     private final Mapper mapper;
     private final RecordEntityRepository recordEntityRepository;
     private final EntityFinder entityFinder;
+    private final ProjectMembershipService projectMembershipService;
 
     private static final String USER_NOT_IN_PROJECT_MESSAGE = "User does not belong to the project";
+    private static final String NO_RECORD_MESSAGE = "This record does not exist";
+    private static final String NOT_RECORD_OWNER_MESSAGE = "You can't manage other users' data, even if you are an admin";
 
     @Override
+    @Transactional
     public void createRecord(RecordRequest recordRequest, Integer userId, Integer projectId) {
-        UserEntity userEntity = entityFinder.getUserEntity(userId);
-        ProjectEntity projectEntity = entityFinder.getProjectEntity(projectId);
-
-        if (!projectEntity.getUserEntities().contains(userEntity)) {
-            throw new UserNotInProjectException(USER_NOT_IN_PROJECT_MESSAGE);
-        }
+        UserEntity userEntity = entityFinder.getUserReference(userId);
+        ProjectEntity projectEntity = entityFinder.getProjectReference(projectId);
+        verifyUserInProject(userEntity, projectEntity);
 
         RecordEntity recordEntity = mapper.getRecordEntity(recordRequest);
         recordEntity.setUserEntity(userEntity);
         recordEntity.setProjectEntity(projectEntity);
-        recordEntityRepository.save(recordEntity);
+        try {
+            // flushed here, a reference to a deleted user or project fails on this insert
+            recordEntityRepository.saveAndFlush(recordEntity);
+        } catch (DataIntegrityViolationException exception) {
+            throw entityFinder.getMissingReferenceException(exception, projectId, userId);
+        }
     }
 
     @Override
-    public List<RecordResponse> getAllRecords() {
-        return recordEntityRepository.findAll().stream()
-                .map(mapper::getRecordResponse)
-                .collect(Collectors.toList());
+    @Transactional
+    public void createRecords(List<RecordBatchRequest> recordBatchRequests) {
+        Map<Integer, Map<Integer, List<RecordBatchRequest>>> requestsByUserAndProject = recordBatchRequests.stream()
+                .collect(Collectors.groupingBy(RecordBatchRequest::userId,
+                        Collectors.groupingBy(RecordBatchRequest::projectId)));
+        Map<Integer, ProjectEntity> projectEntities = new HashMap<>();
+        List<RecordEntity> recordEntities = new ArrayList<>(recordBatchRequests.size());
+
+        requestsByUserAndProject.forEach((userId, requestsByProject) -> {
+            UserEntity userEntity = entityFinder.getUserEntity(userId);
+
+            requestsByProject.forEach((projectId, requests) -> {
+                ProjectEntity projectEntity = projectEntities.computeIfAbsent(projectId, entityFinder::getProjectEntity);
+                verifyUserInProject(userEntity, projectEntity);
+
+                requests.forEach(request -> {
+                    RecordEntity recordEntity = mapper.getRecordEntity(request);
+                    recordEntity.setUserEntity(userEntity);
+                    recordEntity.setProjectEntity(projectEntity);
+                    recordEntities.add(recordEntity);
+                });
+            });
+        });
+
+        // inserts are sent in JDBC batches, see hibernate.jdbc.batch_size
+        recordEntityRepository.saveAll(recordEntities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<RecordResponse> getAllRecords(String cursor, int limit) {
+        // one extra row tells whether the next page exists
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+        List<RecordRow> recordRows;
+
+        if (cursor == null) {
+            recordRows = recordEntityRepository.findFirstPage(pageable);
+        } else {
+            RecordCursor recordCursor = RecordCursor.decode(cursor);
+            recordRows = recordEntityRepository.findPageAfter(recordCursor.createdAt(), recordCursor.id(), pageable);
+        }
+
+        if (recordRows.size() <= limit) {
+            return new CursorPage<>(getRecordResponses(recordRows), null);
+        }
+
+        List<RecordRow> page = recordRows.subList(0, limit);
+        RecordRow last = page.getLast();
+        String nextCursor = new RecordCursor(last.createdAt(), last.id()).encode();
+
+        return new CursorPage<>(getRecordResponses(page), nextCursor);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public RecordResponse getRecordById(Integer id) {
         RecordEntity recordEntity = entityFinder.getRecordEntity(id);
         return mapper.getRecordResponse(recordEntity);
@@ -57,42 +128,67 @@ public class RecordServiceImpl implements RecordService {
 
     @Override
     @Transactional
-    public void updateRecord(Integer id, RecordRequest recordRequest) {
-        RecordEntity existingRecordEntity = entityFinder.getRecordEntity(id);
+    public void updateRecord(Integer id, Integer userId, RecordRequest recordRequest) {
+        int updatedRows = recordEntityRepository.updateByIdAndUserId(
+                id, userId, recordRequest.hours(), recordRequest.description()
+        );
 
-        existingRecordEntity.setHours(recordRequest.hours());
-        existingRecordEntity.setDescription(recordRequest.description());
+        if (updatedRows == 0) {
+            throw getRecordNotChangedException(id);
+        }
     }
 
     @Override
-    public void deleteRecord(Integer id) {
-        recordEntityRepository.deleteById(id);
+    @Transactional
+    public void deleteRecord(Integer id, Integer userId) {
+        if (recordEntityRepository.deleteByIdAndUserId(id, userId) == 0) {
+            throw getRecordNotChangedException(id);
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RecordResponse> getRecordsOnProjectBetweenDates(Integer projectId, OffsetDateTime startDate, OffsetDateTime endDate) {
-        return recordEntityRepository.findByProjectEntityIdAndCreatedAtBetween(projectId, startDate, endDate).stream()
-                .map(mapper::getRecordResponse)
-                .collect(Collectors.toList());
+        return recordEntityRepository.findByProjectIdBetween(projectId, startDate, endDate);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RecordResponse> getRecordsOnProjectForUserBetweenDates(Integer projectId, Integer userId, OffsetDateTime startDate, OffsetDateTime endDate) {
-        return recordEntityRepository.findByProjectEntityIdAndUserEntityIdAndCreatedAtBetween(projectId, userId, startDate, endDate).stream()
-                .map(mapper::getRecordResponse)
-                .collect(Collectors.toList());
+        return recordEntityRepository.findByProjectIdAndUserIdBetween(projectId, userId, startDate, endDate);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RecordResponse> getUserRecordsAcrossProjectsBetweenDates(Integer userId, OffsetDateTime startDate, OffsetDateTime endDate) {
-        return recordEntityRepository.findByUserEntityIdAndCreatedAtBetween(userId, startDate, endDate).stream()
-                .map(mapper::getRecordResponse)
-                .collect(Collectors.toList());
+        return recordEntityRepository.findByUserIdBetween(userId, startDate, endDate);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RecordResponse> getAllRecordsBetweenDates(OffsetDateTime startDate, OffsetDateTime endDate) {
-        return recordEntityRepository.findByCreatedAtBetween(startDate, endDate).stream()
+        return recordEntityRepository.findAllBetween(startDate, endDate);
+    }
+
+    private void verifyUserInProject(UserEntity userEntity, ProjectEntity projectEntity) {
+        if (!projectMembershipService.isUserInProject(projectEntity.getId(), userEntity.getId())) {
+            throw new UserNotInProjectException(USER_NOT_IN_PROJECT_MESSAGE);
+        }
+    }
+
+    /***
+     * Runs only when a conditional update/delete touched nothing, to tell why
+     */
+    private ApiException getRecordNotChangedException(Integer id) {
+        if (recordEntityRepository.findUserIdById(id).isEmpty()) {
+            return new NotFoundException(NO_RECORD_MESSAGE);
+        }
+
+        return new UnauthorizedUserException(NOT_RECORD_OWNER_MESSAGE);
+    }
+
+    private List<RecordResponse> getRecordResponses(List<RecordRow> recordRows) {
+        return recordRows.stream()
                 .map(mapper::getRecordResponse)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,74 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.domain.mappers.Mapper;
+import com.onevoker.timetracker.domain.projections.HoursAggregate;
+import com.onevoker.timetracker.domain.reports.ProjectHoursGrouping;
+import com.onevoker.timetracker.domain.reports.UserHoursGrouping;
+import com.onevoker.timetracker.domain.repositories.ReportRepository;
+import com.onevoker.timetracker.domain.services.interfaces.ReportService;
+import com.onevoker.timetracker.dto.HoursReport;
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+    private final Mapper mapper;
+    private final ReportRepository reportRepository;
+
+    private static final String DAY_PERIOD = "day";
+    private static final String WEEK_PERIOD = "week";
+    private static final String INVALID_DATES_MESSAGE = "startDate must not be after endDate";
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HoursReport> getProjectHours(Integer projectId,
+                                             LocalDate startDate,
+                                             LocalDate endDate,
+                                             ProjectHoursGrouping grouping) {
+        verifyDates(startDate, endDate);
+
+        List<HoursAggregate> hoursAggregates = switch (grouping) {
+            case USER -> reportRepository.sumProjectHoursByUser(projectId, startDate, endDate);
+            case DAY -> reportRepository.sumProjectHoursByPeriod(projectId, DAY_PERIOD, startDate, endDate);
+            case WEEK -> reportRepository.sumProjectHoursByPeriod(projectId, WEEK_PERIOD, startDate, endDate);
+        };
+
+        return getHoursReports(hoursAggregates);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HoursReport> getUserHours(Integer userId,
+                                          LocalDate startDate,
+                                          LocalDate endDate,
+                                          UserHoursGrouping grouping) {
+        verifyDates(startDate, endDate);
+
+        List<HoursAggregate> hoursAggregates = switch (grouping) {
+            case PROJECT -> reportRepository.sumUserHoursByProject(userId, startDate, endDate);
+            case DAY -> reportRepository.sumUserHoursByPeriod(userId, DAY_PERIOD, startDate, endDate);
+            case WEEK -> reportRepository.sumUserHoursByPeriod(userId, WEEK_PERIOD, startDate, endDate);
+        };
+
+        return getHoursReports(hoursAggregates);
+    }
+
+    private void verifyDates(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestParameterException(INVALID_DATES_MESSAGE);
+        }
+    }
+
+    private List<HoursReport> getHoursReports(List<HoursAggregate> hoursAggregates) {
+        return hoursAggregates.stream()
+                .map(mapper::getHoursReport)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,24 +1,33 @@
 package com.onevoker.timetracker.domain.services;
 
+import com.onevoker.timetracker.configs.CacheNames;
+import com.onevoker.timetracker.configs.MetricNames;
 import com.onevoker.timetracker.domain.entities.UserEntity;
 import com.onevoker.timetracker.domain.mappers.Mapper;
+import com.onevoker.timetracker.domain.pagination.NameCursor;
+import com.onevoker.timetracker.domain.pagination.NamePrefix;
 import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
 import com.onevoker.timetracker.domain.services.entityFinder.EntityFinder;
 import com.onevoker.timetracker.domain.services.interfaces.UserService;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.dto.User;
 import com.onevoker.timetracker.dto.auth.AuthRequest;
 import com.onevoker.timetracker.exceptions.DuplicateDataException;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricNames.SERVICE_METRIC)
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserEntityRepository userEntityRepository;
@@ -29,19 +38,33 @@ public class UserServiceImpl implements UserService {
     private static final String SAME_USERNAME_MESSAGE = "This username is already in use";
 
     @Override
-    public List<User> getAllUsers() {
-        return userEntityRepository.findAll().stream()
-                .map(mapper::getUser)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<User> getAllUsers(String prefix, String cursor, int limit) {
+        NamePrefix namePrefix = NamePrefix.of(prefix);
+        // one extra row tells whether the next page exists
+        List<UserEntity> userEntities = cursor == null
+                ? userEntityRepository.findFirstPage(namePrefix.from(), namePrefix.to(), limit + 1)
+                : userEntityRepository.findPageAfter(namePrefix.from(), namePrefix.to(), NameCursor.decode(cursor).name(), limit + 1);
+
+        if (userEntities.size() <= limit) {
+            return new CursorPage<>(getUsers(userEntities), null);
+        }
+
+        List<UserEntity> page = userEntities.subList(0, limit);
+        String nextCursor = new NameCursor(page.getLast().getUsername()).encode();
+
+        return new CursorPage<>(getUsers(page), nextCursor);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getUserById(Integer id) {
         UserEntity userEntity = entityFinder.getUserEntity(id);
         return mapper.getUser(userEntity);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RecordResponse> getAllRecordsById(Integer id) {
         UserEntity userEntity = entityFinder.getUserEntity(id);
         return userEntity.getRecordEntities().stream()
@@ -50,6 +73,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Project> getAllProjectsById(Integer id) {
         UserEntity userEntity = entityFinder.getUserEntity(id);
         return userEntity.getProjectEntities().stream()
@@ -69,7 +93,17 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PROJECT_MEMBERSHIP, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.USER_IDS, key = "#id")
+    })
     public void deleteUser(Integer id) {
         userEntityRepository.deleteById(id);
     }
+
+    private List<User> getUsers(List<UserEntity> userEntities) {
+        return userEntities.stream()
+                .map(mapper::getUser)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,119 @@
+package com.onevoker.timetracker.domain.services.entityFinder;
+
+import com.onevoker.timetracker.configs.CacheNames;
+import com.onevoker.timetracker.configs.MetricNames;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RecordEntity;
+import com.onevoker.timetracker.domain.entities.RoleEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/***
+ * Cache-aside decorator of {@link EntityFinderService}.
+ * Only ids of entities known to exist are cached, never the entities themselves.
+ * Cached ids serve only {@link #getProjectReference} and {@link #getUserReference}, they return a lazy reference
+ * bound to the current persistence context, so a caller using it as a foreign key costs no query.
+ * Callers need a transaction, without open-in-view the reference is detached as soon as it is returned.
+ * Entities read by the caller, usernames, entity graphs and records always go to the database.
+ * An id of an entity deleted on another instance stays cached until ttl and fails only on insert,
+ * {@link #getMissingReferenceException} evicts it.
+ * Roles are linked to users by the cached id as well, the application never deletes them.
+ */
+@Service
+@Timed(MetricNames.ENTITY_FINDER_METRIC)
+@Primary
+@RequiredArgsConstructor
+public class CachingEntityFinder implements EntityFinder {
+    private final EntityFinderService entityFinderService;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
+
+    @Override
+    public ProjectEntity getProjectEntity(Integer projectId) {
+        ProjectEntity projectEntity = entityFinderService.getProjectEntity(projectId);
+        cacheManager.getCache(CacheNames.PROJECT_IDS).put(projectId, projectId);
+
+        return projectEntity;
+    }
+
+    @Override
+    public UserEntity getUserEntity(Integer userId) {
+        UserEntity userEntity = entityFinderService.getUserEntity(userId);
+        cacheManager.getCache(CacheNames.USER_IDS).put(userId, userId);
+
+        return userEntity;
+    }
+
+    @Override
+    public ProjectEntity getProjectReference(Integer projectId) {
+        if (cacheManager.getCache(CacheNames.PROJECT_IDS).get(projectId) != null) {
+            return entityManager.getReference(ProjectEntity.class, projectId);
+        }
+
+        return getProjectEntity(projectId);
+    }
+
+    @Override
+    public UserEntity getUserReference(Integer userId) {
+        if (cacheManager.getCache(CacheNames.USER_IDS).get(userId) != null) {
+            return entityManager.getReference(UserEntity.class, userId);
+        }
+
+        return getUserEntity(userId);
+    }
+
+    @Override
+    public UserEntity getUserEntity(String username) {
+        return entityFinderService.getUserEntity(username);
+    }
+
+    @Override
+    public UserEntity getUserEntityWithRoles(String username) {
+        return entityFinderService.getUserEntityWithRoles(username);
+    }
+
+    @Override
+    public ProjectEntity getProjectEntityWithUsers(Integer projectId) {
+        return entityFinderService.getProjectEntityWithUsers(projectId);
+    }
+
+    @Override
+    public RecordEntity getRecordEntity(Integer recordId) {
+        return entityFinderService.getRecordEntity(recordId);
+    }
+
+    @Override
+    public RoleEntity getRoleEntity(String roleName) {
+        Cache roleIds = cacheManager.getCache(CacheNames.ROLE_IDS);
+        Integer roleId = roleIds.get(roleName, Integer.class);
+        if (roleId != null) {
+            return entityManager.getReference(RoleEntity.class, roleId);
+        }
+
+        RoleEntity roleEntity = entityFinderService.getRoleEntity(roleName);
+        roleIds.put(roleName, roleEntity.getId());
+
+        return roleEntity;
+    }
+
+    @Override
+    public RuntimeException getMissingReferenceException(DataIntegrityViolationException exception,
+                                                         Integer projectId, Integer userId) {
+        EntityFinderService.getViolatedConstraint(exception).ifPresent(constraint -> {
+            if (EntityFinderService.isProjectForeignKey(constraint)) {
+                cacheManager.getCache(CacheNames.PROJECT_IDS).evict(projectId);
+            } else if (EntityFinderService.isUserForeignKey(constraint)) {
+                cacheManager.getCache(CacheNames.USER_IDS).evict(userId);
+            }
+        });
+
+        return entityFinderService.getMissingReferenceException(exception, projectId, userId);
+    }
+}
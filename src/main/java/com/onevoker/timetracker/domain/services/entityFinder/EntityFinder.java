@@ -4,15 +4,37 @@ import com.onevoker.timetracker.domain.entities.ProjectEntity;
 import com.onevoker.timetracker.domain.entities.RecordEntity;
 import com.onevoker.timetracker.domain.entities.RoleEntity;
 import com.onevoker.timetracker.domain.entities.UserEntity;
+import org.springframework.dao.DataIntegrityViolationException;
 
 public interface EntityFinder {
     ProjectEntity getProjectEntity(Integer projectId);
 
     UserEntity getUserEntity(Integer userId);
 
+    /***
+     * For callers using the project only as a foreign key, its fields may be not loaded
+     */
+    ProjectEntity getProjectReference(Integer projectId);
+
+    /***
+     * For callers using the user only as a foreign key, its fields may be not loaded
+     */
+    UserEntity getUserReference(Integer userId);
+
     UserEntity getUserEntity(String username);
 
+    UserEntity getUserEntityWithRoles(String username);
+
+    ProjectEntity getProjectEntityWithUsers(Integer projectId);
+
     RecordEntity getRecordEntity(Integer recordId);
 
     RoleEntity getRoleEntity(String roleName);
+
+    /***
+     * Translates a failed write of project and user references.
+     * @return NotFoundException if the project or the user was deleted meanwhile, otherwise the exception itself
+     */
+    RuntimeException getMissingReferenceException(DataIntegrityViolationException exception,
+                                                  Integer projectId, Integer userId);
 }
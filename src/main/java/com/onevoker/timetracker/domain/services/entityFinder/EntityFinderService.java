@@ -10,8 +10,12 @@ import com.onevoker.timetracker.domain.repositories.RoleEntityRepository;
 import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
 import com.onevoker.timetracker.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 /***
  * Service for find entities in database.
  * Methods throws NotFoundException — if entity not exists
@@ -29,6 +33,9 @@ public class EntityFinderService implements EntityFinder {
     private static final String NO_RECORD_MESSAGE = "This record does not exist";
     private static final String NO_ROLE_MESSAGE = "This role does not exist";
     private static final String ROLE_CREATION_GUIDE = "P.S. Role should start with prefix ROLE_, for example: ROLE_Admin";
+    // postgres names foreign keys <table>_<column>_fkey
+    private static final String PROJECT_FOREIGN_KEY_SUFFIX = "project_id_fkey";
+    private static final String USER_FOREIGN_KEY_SUFFIX = "user_id_fkey";
 
     @Override
     public ProjectEntity getProjectEntity(Integer projectId) {
@@ -42,12 +49,34 @@ public class EntityFinderService implements EntityFinder {
                 .orElseThrow(() -> new NotFoundException(NO_USER_MESSAGE));
     }
 
+    @Override
+    public ProjectEntity getProjectReference(Integer projectId) {
+        return getProjectEntity(projectId);
+    }
+
+    @Override
+    public UserEntity getUserReference(Integer userId) {
+        return getUserEntity(userId);
+    }
+
     @Override
     public UserEntity getUserEntity(String username) {
         return userEntityRepository.findByUsername(username)
                 .orElseThrow(() -> new NotFoundException(NO_USER_MESSAGE));
     }
 
+    @Override
+    public UserEntity getUserEntityWithRoles(String username) {
+        return userEntityRepository.findWithRolesByUsername(username)
+                .orElseThrow(() -> new NotFoundException(NO_USER_MESSAGE));
+    }
+
+    @Override
+    public ProjectEntity getProjectEntityWithUsers(Integer projectId) {
+        return projectEntityRepository.findWithUsersById(projectId)
+                .orElseThrow(() -> new NotFoundException(NO_PROJECT_MESSAGE));
+    }
+
     @Override
     public RecordEntity getRecordEntity(Integer recordId) {
         return recordEntityRepository.findById(recordId)
@@ -59,4 +88,35 @@ public class EntityFinderService implements EntityFinder {
         return roleEntityRepository.findByName(roleName)
                 .orElseThrow(() -> new NotFoundException(NO_ROLE_MESSAGE + "\n" + ROLE_CREATION_GUIDE));
     }
+
+    @Override
+    public RuntimeException getMissingReferenceException(DataIntegrityViolationException exception,
+                                                         Integer projectId, Integer userId) {
+        Optional<String> constraint = getViolatedConstraint(exception);
+
+        if (constraint.filter(EntityFinderService::isProjectForeignKey).isPresent()) {
+            return new NotFoundException(NO_PROJECT_MESSAGE);
+        }
+        if (constraint.filter(EntityFinderService::isUserForeignKey).isPresent()) {
+            return new NotFoundException(NO_USER_MESSAGE);
+        }
+
+        return exception;
+    }
+
+    static Optional<String> getViolatedConstraint(DataIntegrityViolationException exception) {
+        if (exception.getCause() instanceof ConstraintViolationException violation) {
+            return Optional.ofNullable(violation.getConstraintName());
+        }
+
+        return Optional.empty();
+    }
+
+    static boolean isProjectForeignKey(String constraint) {
+        return constraint.endsWith(PROJECT_FOREIGN_KEY_SUFFIX);
+    }
+
+    static boolean isUserForeignKey(String constraint) {
+        return constraint.endsWith(USER_FOREIGN_KEY_SUFFIX);
+    }
 }
@@ -0,0 +1,8 @@
+package com.onevoker.timetracker.domain.services.interfaces;
+
+/***
+ * Cached membership checks, entries are evicted when members of a project change
+ */
+public interface ProjectMembershipService {
+    boolean isUserInProject(Integer projectId, Integer userId);
+}
@@ -1,5 +1,6 @@
 package com.onevoker.timetracker.domain.services.interfaces;
 
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.User;
 
@@ -8,7 +9,12 @@ import java.util.List;
 public interface ProjectService {
     void createProject(Project project);
 
-    List<Project> getAllProjects();
+    /***
+     * Keyset pagination over projects ordered by name.
+     * @param prefix only names starting with it, case-sensitive, or null for all projects
+     * @param cursor {@code nextCursor} of the previous page or null for the first page
+     */
+    CursorPage<Project> getAllProjects(String prefix, String cursor, int limit);
 
     Project getProjectById(Integer id);
 
@@ -0,0 +1,27 @@
+package com.onevoker.timetracker.domain.services.interfaces;
+
+import com.onevoker.timetracker.dto.RecordArchivalRun;
+
+import java.util.List;
+
+public interface RecordArchivalService {
+    /***
+     * Moves records older than the retention period to records_archive and waits for the run to finish.
+     * Resumable, a new run continues where an interrupted one stopped
+     * @throws com.onevoker.timetracker.exceptions.ArchivalInProgressException
+     *          If another run is in progress
+     */
+    RecordArchivalRun archiveOldRecords();
+
+    /***
+     * Same as {@link #archiveOldRecords()}, but returns as soon as the run is started
+     */
+    RecordArchivalRun startArchival();
+
+    /***
+     * @return latest runs first
+     */
+    List<RecordArchivalRun> getArchivalRuns(int limit);
+
+    RecordArchivalRun getArchivalRun(Integer id);
+}
@@ -0,0 +1,13 @@
+package com.onevoker.timetracker.domain.services.interfaces;
+
+import com.onevoker.timetracker.domain.export.ExportFormat;
+import com.onevoker.timetracker.domain.export.RecordExportFilter;
+
+import java.io.OutputStream;
+
+public interface RecordExportService {
+    /***
+     * Writes matching records ordered by creation time, memory use does not depend on their count
+     */
+    void exportRecords(RecordExportFilter filter, ExportFormat format, OutputStream outputStream);
+}
@@ -0,0 +1,8 @@
+package com.onevoker.timetracker.domain.services.interfaces;
+
+public interface RecordPartitionService {
+    /***
+     * Creates missing partitions of records from the current month up to the configured months ahead
+     */
+    void createUpcomingPartitions();
+}
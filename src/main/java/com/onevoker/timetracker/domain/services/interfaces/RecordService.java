@@ -1,5 +1,7 @@
 package com.onevoker.timetracker.domain.services.interfaces;
 
+import com.onevoker.timetracker.dto.CursorPage;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
 
@@ -9,13 +11,28 @@ import java.util.List;
 public interface RecordService {
     void createRecord(RecordRequest recordRequest, Integer userId, Integer projectId);
 
-    List<RecordResponse> getAllRecords();
+    /***
+     * Creates all records in one transaction, membership is checked once per (user, project) pair
+     */
+    void createRecords(List<RecordBatchRequest> recordBatchRequests);
+
+    /***
+     * Keyset pagination over all records ordered by creation time.
+     * @param cursor {@code nextCursor} of the previous page or null for the first page
+     */
+    CursorPage<RecordResponse> getAllRecords(String cursor, int limit);
 
     RecordResponse getRecordById(Integer id);
 
-    void updateRecord(Integer id, RecordRequest recordRequest);
+    /***
+     * Updates the record only if it belongs to {@code userId}
+     */
+    void updateRecord(Integer id, Integer userId, RecordRequest recordRequest);
 
-    void deleteRecord(Integer id);
+    /***
+     * Deletes the record only if it belongs to {@code userId}
+     */
+    void deleteRecord(Integer id, Integer userId);
 
     List<RecordResponse> getRecordsOnProjectBetweenDates(Integer projectId, OffsetDateTime startDate, OffsetDateTime endDate);
 
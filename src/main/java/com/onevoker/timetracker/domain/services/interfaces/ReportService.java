@@ -0,0 +1,17 @@
+package com.onevoker.timetracker.domain.services.interfaces;
+
+import com.onevoker.timetracker.domain.reports.ProjectHoursGrouping;
+import com.onevoker.timetracker.domain.reports.UserHoursGrouping;
+import com.onevoker.timetracker.dto.HoursReport;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/***
+ * Totals of worked hours, both dates are inclusive UTC days
+ */
+public interface ReportService {
+    List<HoursReport> getProjectHours(Integer projectId, LocalDate startDate, LocalDate endDate, ProjectHoursGrouping grouping);
+
+    List<HoursReport> getUserHours(Integer userId, LocalDate startDate, LocalDate endDate, UserHoursGrouping grouping);
+}
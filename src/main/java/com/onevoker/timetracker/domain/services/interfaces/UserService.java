@@ -1,5 +1,6 @@
 package com.onevoker.timetracker.domain.services.interfaces;
 
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.dto.User;
@@ -8,7 +9,12 @@ import com.onevoker.timetracker.dto.auth.AuthRequest;
 import java.util.List;
 
 public interface UserService {
-    List<User> getAllUsers();
+    /***
+     * Keyset pagination over users ordered by username.
+     * @param prefix only usernames starting with it, case-sensitive, or null for all users
+     * @param cursor {@code nextCursor} of the previous page or null for the first page
+     */
+    CursorPage<User> getAllUsers(String prefix, String cursor, int limit);
 
     User getUserById(Integer id);
 
@@ -0,0 +1,10 @@
+package com.onevoker.timetracker.dto;
+
+import java.util.List;
+
+/***
+ * One page of a keyset-paginated list.
+ * {@code nextCursor} is null when there are no more items.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,4 @@
+package com.onevoker.timetracker.dto;
+
+public record HoursReport(String group, long totalHours, long recordsCount) {
+}
@@ -0,0 +1,15 @@
+package com.onevoker.timetracker.dto;
+
+import com.onevoker.timetracker.domain.archival.RecordArchivalStatus;
+
+import java.time.OffsetDateTime;
+
+public record RecordArchivalRun(Integer id,
+                                RecordArchivalStatus status,
+                                OffsetDateTime horizon,
+                                long archivedRecords,
+                                OffsetDateTime startedAt,
+                                OffsetDateTime finishedAt,
+                                String error
+) {
+}
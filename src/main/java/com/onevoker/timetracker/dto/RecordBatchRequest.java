@@ -0,0 +1,4 @@
+package com.onevoker.timetracker.dto;
+
+public record RecordBatchRequest(int userId, int projectId, int hours, String description) {
+}
@@ -0,0 +1,15 @@
+package com.onevoker.timetracker.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+public class InvalidRequestParameterException extends ApiException {
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
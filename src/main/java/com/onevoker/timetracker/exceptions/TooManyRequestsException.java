@@ -0,0 +1,15 @@
+package com.onevoker.timetracker.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+public class TooManyRequestsException extends ApiException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,43 @@
+package com.onevoker.timetracker.instrumentation;
+
+import org.hibernate.SessionEventListener;
+
+/***
+ * Measures time spent in JDBC statement and batch execution, counts executed batches.
+ * Hibernate creates one instance per session, see hibernate.session.events.auto
+ */
+public class JdbcTimingSessionEventListener implements SessionEventListener {
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        addElapsed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+
+        QueryStats queryStats = QueryStatsHolder.current();
+        if (queryStats != null) {
+            queryStats.incrementJdbcBatches();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        addElapsed();
+    }
+
+    private void addElapsed() {
+        QueryStats queryStats = QueryStatsHolder.current();
+        if (queryStats != null) {
+            queryStats.addJdbcNanos(System.nanoTime() - executionStart);
+        }
+    }
+}
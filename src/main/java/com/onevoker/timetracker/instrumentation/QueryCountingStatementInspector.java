@@ -0,0 +1,19 @@
+package com.onevoker.timetracker.instrumentation;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/***
+ * Sees every SQL statement Hibernate prepares, statement itself is left untouched
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        QueryStats queryStats = QueryStatsHolder.current();
+        if (queryStats != null) {
+            queryStats.incrementQueries();
+            queryStats.setLastStatement(sql);
+        }
+
+        return sql;
+    }
+}
@@ -0,0 +1,53 @@
+package com.onevoker.timetracker.instrumentation;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/***
+ * Counters of one request or one captured block, confined to a single thread.
+ * The SQL of the last statement is kept for tests that explain it
+ */
+@Getter
+public class QueryStats {
+    private long queries;
+    private long jdbcNanos;
+    private long jdbcBatches;
+    private long entityLoads;
+    private long collectionFetches;
+    private String lastStatement;
+
+    void incrementQueries() {
+        queries++;
+    }
+
+    void setLastStatement(String sql) {
+        lastStatement = sql;
+    }
+
+    void addJdbcNanos(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void incrementJdbcBatches() {
+        jdbcBatches++;
+    }
+
+    void incrementEntityLoads() {
+        entityLoads++;
+    }
+
+    void incrementCollectionFetches() {
+        collectionFetches++;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "queries=%d, jdbcTime=%dms, jdbcBatches=%d, entityLoads=%d, collectionFetches=%d"
+                .formatted(queries, getJdbcTime().toMillis(), jdbcBatches, entityLoads, collectionFetches);
+    }
+}
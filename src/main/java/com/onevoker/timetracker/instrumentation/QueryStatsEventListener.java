@@ -0,0 +1,27 @@
+package com.onevoker.timetracker.instrumentation;
+
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/***
+ * Counts loaded entities and lazily initialized collections, the usual sign of N+1
+ */
+public class QueryStatsEventListener implements PostLoadEventListener, InitializeCollectionEventListener {
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryStats queryStats = QueryStatsHolder.current();
+        if (queryStats != null) {
+            queryStats.incrementEntityLoads();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        QueryStats queryStats = QueryStatsHolder.current();
+        if (queryStats != null) {
+            queryStats.incrementCollectionFetches();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.onevoker.timetracker.instrumentation;
+
+/***
+ * Binds {@link QueryStats} to the current thread.
+ * Hibernate hooks write to it only between {@link #start()} and {@link #stop()},
+ * work on other threads (e.g. streaming responses) is not counted.
+ */
+public final class QueryStatsHolder {
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private QueryStatsHolder() {
+    }
+
+    public static QueryStats start() {
+        QueryStats queryStats = new QueryStats();
+        CURRENT.set(queryStats);
+
+        return queryStats;
+    }
+
+    /***
+     * @return stats of the current thread or null if nothing is recorded
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static QueryStats stop() {
+        QueryStats queryStats = CURRENT.get();
+        CURRENT.remove();
+
+        return queryStats;
+    }
+}
@@ -0,0 +1,95 @@
+package com.onevoker.timetracker.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/***
+ * Records {@link QueryStats} of every controller call
+ * as metrics tagged by controller and method, optionally also as response headers
+ */
+@RequiredArgsConstructor
+public class QueryStatsInterceptor implements AsyncHandlerInterceptor {
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaders;
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String JDBC_TIME_HEADER = "X-Jdbc-Time-Ms";
+    public static final String ENTITY_LOADS_HEADER = "X-Entity-Loads";
+    public static final String COLLECTION_FETCHES_HEADER = "X-Collection-Fetches";
+
+    private static final String QUERIES_METRIC = "timetracker.request.queries";
+    private static final String JDBC_TIME_METRIC = "timetracker.request.jdbc.time";
+    private static final String ENTITY_LOADS_METRIC = "timetracker.request.entity.loads";
+    private static final String COLLECTION_FETCHES_METRIC = "timetracker.request.collection.fetches";
+    private static final String CONTROLLER_TAG = "controller";
+    private static final String METHOD_TAG = "method";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryStatsHolder.start();
+        }
+
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request,
+                           HttpServletResponse response,
+                           Object handler,
+                           ModelAndView modelAndView) {
+        QueryStats queryStats = QueryStatsHolder.current();
+        if (responseHeaders && queryStats != null && !response.isCommitted()) {
+            writeHeaders(response, queryStats);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Object handler,
+                                Exception exception) {
+        QueryStats queryStats = QueryStatsHolder.stop();
+        if (queryStats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        Tags tags = Tags.of(
+                CONTROLLER_TAG, handlerMethod.getBeanType().getSimpleName(),
+                METHOD_TAG, handlerMethod.getMethod().getName()
+        );
+        DistributionSummary.builder(QUERIES_METRIC).tags(tags).register(meterRegistry)
+                .record(queryStats.getQueries());
+        Timer.builder(JDBC_TIME_METRIC).tags(tags).register(meterRegistry)
+                .record(queryStats.getJdbcTime());
+        DistributionSummary.builder(ENTITY_LOADS_METRIC).tags(tags).register(meterRegistry)
+                .record(queryStats.getEntityLoads());
+        DistributionSummary.builder(COLLECTION_FETCHES_METRIC).tags(tags).register(meterRegistry)
+                .record(queryStats.getCollectionFetches());
+    }
+
+    /***
+     * Called instead of postHandle and afterCompletion when the handler returns an async result,
+     * the request thread goes back to the pool, so its stats are dropped.
+     * The async dispatch runs the interceptor again with fresh stats
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStatsHolder.stop();
+    }
+
+    static void writeHeaders(HttpServletResponse response, QueryStats queryStats) {
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(queryStats.getQueries()));
+        response.setHeader(JDBC_TIME_HEADER, String.valueOf(queryStats.getJdbcTime().toMillis()));
+        response.setHeader(ENTITY_LOADS_HEADER, String.valueOf(queryStats.getEntityLoads()));
+        response.setHeader(COLLECTION_FETCHES_HEADER, String.valueOf(queryStats.getCollectionFetches()));
+    }
+}
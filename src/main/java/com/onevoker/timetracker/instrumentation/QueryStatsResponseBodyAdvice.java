@@ -0,0 +1,38 @@
+package com.onevoker.timetracker.instrumentation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/***
+ * Response body is written before {@link QueryStatsInterceptor#postHandle}, so headers are set here for such responses
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "instrumentation", name = {"enabled", "response-headers"}, havingValue = "true")
+public class QueryStatsResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        QueryStats queryStats = QueryStatsHolder.current();
+        if (queryStats != null && response instanceof ServletServerHttpResponse servletResponse) {
+            QueryStatsInterceptor.writeHeaders(servletResponse.getServletResponse(), queryStats);
+        }
+
+        return body;
+    }
+}
@@ -0,0 +1,47 @@
+package com.onevoker.timetracker.security.passwordHashing;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/***
+ * Finds the highest BCrypt cost, which hashes within the latency budget on this machine.
+ * Every cost step doubles hashing time.
+ */
+public final class BCryptCostCalibrator {
+    // Spring Security default, weaker hashes are never produced
+    public static final int MIN_COST = 10;
+    public static final int MAX_COST = 31;
+
+    private static final String SAMPLE_PASSWORD = "calibrationPassword";
+    private static final int MEASUREMENTS = 2;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency) {
+        long budget = targetLatency.toNanos();
+        int cost = MIN_COST;
+        long nanos = measure(cost);
+
+        while (cost < MAX_COST && nanos * 2 <= budget) {
+            cost++;
+            nanos = measure(cost);
+        }
+
+        return cost;
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        return best;
+    }
+}
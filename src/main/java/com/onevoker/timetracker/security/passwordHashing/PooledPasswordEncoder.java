@@ -0,0 +1,104 @@
+package com.onevoker.timetracker.security.passwordHashing;
+
+import com.onevoker.timetracker.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/***
+ * BCrypt encoder, which hashes on a dedicated bounded pool instead of request threads,
+ * so a login storm can take at most {@code threads} cores.
+ * When the queue is full, callers get TooManyRequestsException (429) instead of waiting.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private final BCryptPasswordEncoder delegate;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    private static final String THREAD_NAME_PREFIX = "password-hashing-";
+    private static final String TIMER_NAME = "password.hashing";
+    private static final String QUEUE_GAUGE_NAME = "password.hashing.queue.size";
+    private static final String OPERATION_TAG = "operation";
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final String QUEUE_IS_FULL_MESSAGE = "Too many login attempts right now, try again later";
+
+    public PooledPasswordEncoder(int cost, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.cost = cost;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name(THREAD_NAME_PREFIX, 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = Timer.builder(TIMER_NAME).tag(OPERATION_TAG, "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(TIMER_NAME).tag(OPERATION_TAG, "matches").register(meterRegistry);
+        Gauge.builder(QUEUE_GAUGE_NAME, executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /***
+     * True when the hash was made with a lower cost, then Spring Security rehashes the password on login.
+     * Stronger hashes are kept, instances calibrate their own cost and would otherwise rehash the same users back and forth
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            throw new TooManyRequestsException(QUEUE_IS_FULL_MESSAGE);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+}
@@ -31,7 +31,7 @@ public class RoleManagementService {
 
     @Transactional
     public String addRoleToUser(String username, String roleName) {
-        UserEntity user = entityFinder.getUserEntity(username);
+        UserEntity user = entityFinder.getUserEntityWithRoles(username);
         RoleEntity role = entityFinder.getRoleEntity(roleName);
 
         if (user.getRoleEntities().contains(role)) {
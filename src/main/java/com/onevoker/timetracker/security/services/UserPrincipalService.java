@@ -2,26 +2,46 @@ package com.onevoker.timetracker.security.services;
 
 import com.onevoker.timetracker.domain.entities.RoleEntity;
 import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
 import com.onevoker.timetracker.domain.services.entityFinder.EntityFinder;
 import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class UserPrincipalService implements UserDetailsService {
+public class UserPrincipalService implements UserDetailsService, UserDetailsPasswordService {
     private final EntityFinder entityFinder;
+    private final UserEntityRepository userEntityRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity userEntity = entityFinder.getUserEntity(username);
+        UserEntity userEntity = entityFinder.getUserEntityWithRoles(username);
+        return getUserPrincipal(userEntity);
+    }
+
+    /***
+     * Called by Spring Security after successful login, when the stored hash has outdated BCrypt cost
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserEntity userEntity = entityFinder.getUserEntityWithRoles(user.getUsername());
+        userEntity.setPassword(newPassword);
+        userEntityRepository.save(userEntity);
+
+        return getUserPrincipal(userEntity);
+    }
 
+    private UserPrincipal getUserPrincipal(UserEntity userEntity) {
         return UserPrincipal.builder()
                 .userId(userEntity.getId())
                 .username(userEntity.getUsername())
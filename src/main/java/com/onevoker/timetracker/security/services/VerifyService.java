@@ -1,20 +1,14 @@
 package com.onevoker.timetracker.security.services;
 
-import com.onevoker.timetracker.domain.entities.RecordEntity;
-import com.onevoker.timetracker.domain.services.entityFinder.EntityFinder;
 import com.onevoker.timetracker.exceptions.UnauthorizedUserException;
 import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class VerifyService {
-    private final EntityFinder entityFinder;
-
     private static final String NOT_THE_SAME_USERS_MESSAGE = "You can't manage other users' data, even if you are an admin";
     private static final String ROLE_ADMIN = "ROLE_Admin";
 
@@ -37,20 +31,6 @@ public class VerifyService {
 
     }
 
-    public void verifyUserForDeleteRecord(int recordId, UserPrincipal principal) {
-        RecordEntity record = entityFinder.getRecordEntity(recordId);
-        int userId = record.getUserEntity().getId();
-
-        verifyUserId(userId, principal);
-    }
-
-    public void verifyUserByRecordId(int recordId, UserPrincipal principal) {
-        RecordEntity record = entityFinder.getRecordEntity(recordId);
-        int userId = record.getUserEntity().getId();
-
-        verifyUserId(userId, principal);
-    }
-
     private List<String> getAuthoritiesAsStrings(UserPrincipal principal) {
         return principal.getAuthorities().stream()
                 .map(GrantedAuthority::toString)
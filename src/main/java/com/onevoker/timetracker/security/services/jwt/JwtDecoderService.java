@@ -1,20 +1,22 @@
 package com.onevoker.timetracker.security.services.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.onevoker.timetracker.configs.SecurityPropertiesConfig;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class JwtDecoderService {
-    private final SecurityPropertiesConfig.Jwt jwt;
+    // thread-safe, built once because building it is as costly as verifying a token
+    private final JWTVerifier verifier;
+
+    public JwtDecoderService(SecurityPropertiesConfig.Jwt jwt) {
+        this.verifier = JWT.require(Algorithm.HMAC256(jwt.secretKey())).build();
+    }
 
     public DecodedJWT decode(String token) {
-        return JWT.require(Algorithm.HMAC256(jwt.secretKey()))
-                .build()
-                .verify(token);
+        return verifier.verify(token);
     }
 }
@@ -3,22 +3,25 @@ package com.onevoker.timetracker.security.services.jwt;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.onevoker.timetracker.configs.SecurityPropertiesConfig;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class JwtIssuerService {
     private final SecurityPropertiesConfig securityPropertiesConfig;
+    private final Algorithm algorithm;
+
+    public JwtIssuerService(SecurityPropertiesConfig securityPropertiesConfig) {
+        this.securityPropertiesConfig = securityPropertiesConfig;
+        this.algorithm = Algorithm.HMAC256(securityPropertiesConfig.jwt().secretKey());
+    }
 
     public String generateToken(int userId, String username, List<String> roles) {
         var jwtProps = securityPropertiesConfig.jwt();
         var claimNames = securityPropertiesConfig.claimNames();
 
-        Algorithm algorithm = Algorithm.HMAC256(jwtProps.secretKey());
         Date now = new Date();
         Date validity = new Date(now.getTime() + jwtProps.tokenLifetime().toMillis());
 
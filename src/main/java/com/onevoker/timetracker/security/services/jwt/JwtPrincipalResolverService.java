@@ -0,0 +1,89 @@
+package com.onevoker.timetracker.security.services.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.onevoker.timetracker.configs.SecurityPropertiesConfig;
+import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/***
+ * Resolves principal from token, remembering recently verified tokens until they expire.
+ * Repeated requests with the same token skip signature verification and claims parsing.
+ */
+@Service
+public class JwtPrincipalResolverService {
+    private final JwtDecoderService jwtDecoderService;
+    private final JwtToPrincipalConverterService converter;
+    // keyed by token hash, so raw tokens are not kept in memory
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    public JwtPrincipalResolverService(JwtDecoderService jwtDecoderService,
+                                       JwtToPrincipalConverterService converter,
+                                       SecurityPropertiesConfig.Jwt jwt) {
+        this.jwtDecoderService = jwtDecoderService;
+        this.converter = converter;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwt.principalCacheSize())
+                .expireAfter(new UntilTokenExpires())
+                .build();
+    }
+
+    /***
+     * @throws JWTVerificationException
+     *          If token is invalid or expired
+     */
+    public UserPrincipal resolve(String token) {
+        return verifiedTokens.get(hash(token), key -> verify(token)).principal();
+    }
+
+    private VerifiedToken verify(String token) {
+        DecodedJWT decodedJWT = jwtDecoderService.decode(token);
+        return new VerifiedToken(converter.convert(decodedJWT), decodedJWT.getExpiresAtAsInstant());
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            // every JVM must support SHA-256
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private record VerifiedToken(UserPrincipal principal, Instant expiresAt) {
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return 0;
+            }
+
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
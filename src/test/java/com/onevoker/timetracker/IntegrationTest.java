@@ -40,7 +40,7 @@ public abstract class IntegrationTest {
         runMigrations(POSTGRES);
     }
 
-    private static void runMigrations(JdbcDatabaseContainer<?> c) {
+    protected static void runMigrations(JdbcDatabaseContainer<?> c) {
         SingleConnectionDataSource dataSource = new SingleConnectionDataSource();
         dataSource.setSuppressClose(true);
         dataSource.setUrl(c.getJdbcUrl());
@@ -4,8 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onevoker.timetracker.IntegrationTest;
 import com.onevoker.timetracker.controllers.security.annotations.WithAdminUser;
 import com.onevoker.timetracker.controllers.security.annotations.WithDefaultUser;
+import com.onevoker.timetracker.domain.archival.RecordArchivalStatus;
+import com.onevoker.timetracker.domain.services.interfaces.RecordArchivalService;
 import com.onevoker.timetracker.dto.ApiErrorResponse;
+import com.onevoker.timetracker.dto.RecordArchivalRun;
 import com.onevoker.timetracker.dto.auth.AuthRequest;
+import com.onevoker.timetracker.exceptions.ArchivalInProgressException;
 import com.onevoker.timetracker.exceptions.DuplicateDataException;
 import com.onevoker.timetracker.exceptions.NotFoundException;
 import com.onevoker.timetracker.security.services.RoleManagementService;
@@ -17,9 +21,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -33,10 +41,15 @@ class AdminControllerTest extends IntegrationTest {
     @MockBean
     private RoleManagementService roleManagementService;
 
+    @MockBean
+    private RecordArchivalService recordArchivalService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private static final String ADD_ROLE_ENDPOINT = "/admin/add-role";
     private static final String CREATE_USER_WITH_ROLE_ENDPOINT = "/admin/create-user-with-role";
+    private static final String ARCHIVAL_RUNS_ENDPOINT = "/admin/archival-runs";
+    private static final String ARCHIVAL_RUN_ID_PARAM = "/{id}";
 
     private static final String USERNAME_PARAM = "username";
     private static final String ROLE_NAME_PARAM = "roleName";
@@ -48,6 +61,18 @@ class AdminControllerTest extends IntegrationTest {
     private static final String CREATE_USER_RESPONSE = "%s was created with role %s. \n"
             + "P.S. If you created him with ROLE_Admin, that's mean, that he also have ROLE_User";
     private static final String ADD_ROLE_RESPONSE = "To %s was added role %s";
+    private static final String LIMIT_PARAM = "limit";
+    private static final int ARCHIVAL_RUN_ID = 1;
+    private static final RecordArchivalRun ARCHIVAL_RUN = new RecordArchivalRun(
+            ARCHIVAL_RUN_ID,
+            RecordArchivalStatus.RUNNING,
+            OffsetDateTime.now().minusMonths(13),
+            0,
+            OffsetDateTime.now(),
+            null,
+            null
+    );
+    private static final String ARCHIVAL_RUN_JSON = "{\"id\": 1, \"status\": \"RUNNING\", \"archivedRecords\": 0}";
 
     @Test
     @WithAdminUser
@@ -191,4 +216,61 @@ class AdminControllerTest extends IntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isForbidden());
     }
+
+    // now start testing archival endpoints
+
+    @Test
+    @WithAdminUser
+    void testStartArchival() throws Exception {
+        when(recordArchivalService.startArchival()).thenReturn(ARCHIVAL_RUN);
+
+        api.perform(post(ARCHIVAL_RUNS_ENDPOINT))
+                .andExpect(status().isAccepted())
+                .andExpect(content().json(ARCHIVAL_RUN_JSON));
+    }
+
+    @Test
+    @WithAdminUser
+    void testStartArchivalThrowsArchivalInProgressException() throws Exception {
+        when(recordArchivalService.startArchival())
+                .thenThrow(new ArchivalInProgressException("Archival is already in progress"));
+
+        api.perform(post(ARCHIVAL_RUNS_ENDPOINT))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testStartArchivalByDefaultUser() throws Exception {
+        api.perform(post(ARCHIVAL_RUNS_ENDPOINT))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithAdminUser
+    void testGetArchivalRuns() throws Exception {
+        when(recordArchivalService.getArchivalRuns(20)).thenReturn(List.of(ARCHIVAL_RUN));
+
+        api.perform(get(ARCHIVAL_RUNS_ENDPOINT))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[" + ARCHIVAL_RUN_JSON + "]"));
+    }
+
+    @Test
+    @WithAdminUser
+    void testGetArchivalRunsWithTooBigLimit() throws Exception {
+        api.perform(get(ARCHIVAL_RUNS_ENDPOINT)
+                        .param(LIMIT_PARAM, "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithAdminUser
+    void testGetArchivalRunThrowsNotFoundException() throws Exception {
+        when(recordArchivalService.getArchivalRun(ARCHIVAL_RUN_ID))
+                .thenThrow(new NotFoundException("This archival run does not exist"));
+
+        api.perform(get(ARCHIVAL_RUNS_ENDPOINT + ARCHIVAL_RUN_ID_PARAM, ARCHIVAL_RUN_ID))
+                .andExpect(status().isNotFound());
+    }
 }
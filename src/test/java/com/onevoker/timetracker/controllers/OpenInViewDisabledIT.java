@@ -0,0 +1,141 @@
+package com.onevoker.timetracker.controllers;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.controllers.security.annotations.WithAdminUser;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
+import com.onevoker.timetracker.domain.repositories.RecordEntityRepository;
+import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
+import com.onevoker.timetracker.domain.services.interfaces.RecordService;
+import com.onevoker.timetracker.dto.Project;
+import com.onevoker.timetracker.dto.RecordRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/***
+ * Real services behind controllers and no test transaction,
+ * so lazy loading outside of service transactions fails the request
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithAdminUser
+public class OpenInViewDisabledIT extends IntegrationTest {
+    @Autowired
+    private MockMvc api;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private UserEntityRepository userEntityRepository;
+
+    @Autowired
+    private ProjectEntityRepository projectEntityRepository;
+
+    @Autowired
+    private RecordEntityRepository recordEntityRepository;
+
+    private Integer userId;
+    private Integer projectId;
+    private Integer recordId;
+
+    private static final String USERNAME = "open-in-view-user";
+    private static final String PASSWORD = "password";
+    private static final String PROJECT_NAME = "Open In View Project";
+    private static final String PROJECT_DESCRIPTION = "Open In View Description";
+    private static final int RECORD_HOURS = 3;
+    private static final String RECORD_DESCRIPTION = "Open In View Record";
+
+    @BeforeEach
+    void setUp() {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setUsername(USERNAME);
+        userEntity.setPassword(PASSWORD);
+        userId = userEntityRepository.save(userEntity).getId();
+
+        projectService.createProject(new Project(PROJECT_NAME, PROJECT_DESCRIPTION));
+        projectId = projectEntityRepository.findByName(PROJECT_NAME).orElseThrow().getId();
+        projectService.addUserToProject(userId, projectId);
+
+        recordService.createRecord(new RecordRequest(RECORD_HOURS, RECORD_DESCRIPTION), userId, projectId);
+        recordId = recordEntityRepository.findAll().stream()
+                .filter(recordEntity -> recordEntity.getDescription().equals(RECORD_DESCRIPTION))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectEntityRepository.deleteById(projectId);
+        userEntityRepository.deleteById(userId);
+    }
+
+    @Test
+    void testOpenInViewIsDisabled() {
+        assertThat(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    void testUserReadsLoadLazyDataInsideTransaction() throws Exception {
+        // second request finds the id in cache and gets a lazy reference instead of the entity
+        for (int i = 0; i < 2; i++) {
+            api.perform(get("/users/{id}", userId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.username").value(USERNAME));
+        }
+
+        api.perform(get("/users/{id}/records", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].projectName").value(PROJECT_NAME));
+        api.perform(get("/users/{id}/projects", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value(PROJECT_NAME));
+        api.perform(get("/users"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testProjectReadsLoadLazyDataInsideTransaction() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            api.perform(get("/projects/{id}", projectId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value(PROJECT_NAME));
+        }
+
+        api.perform(get("/projects/{id}/users", projectId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value(USERNAME));
+        api.perform(get("/projects"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRecordReadsLoadLazyDataInsideTransaction() throws Exception {
+        api.perform(get("/records/{id}", recordId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectName").value(PROJECT_NAME))
+                .andExpect(jsonPath("$.username").value(USERNAME));
+        api.perform(get("/records"))
+                .andExpect(status().isOk());
+    }
+}
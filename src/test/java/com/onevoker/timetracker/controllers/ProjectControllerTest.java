@@ -6,6 +6,7 @@ import com.onevoker.timetracker.controllers.security.annotations.WithAdminUser;
 import com.onevoker.timetracker.controllers.security.annotations.WithDefaultUser;
 import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
 import com.onevoker.timetracker.dto.ApiErrorResponse;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.User;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -24,6 +26,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -41,11 +44,19 @@ class ProjectControllerTest extends IntegrationTest {
     private static final String PROJECT_ID_PARAM = "/{id}";
     private static final String USERS_ON_PROJECT_ENDPOINT = "/{id}/users";
     private static final String ADD_USER_TO_PROJECT_ENDPOINT = "/{projectId}/users/{userId}";
+    private static final String PREFIX_PARAM = "prefix";
+    private static final String CURSOR_PARAM = "cursor";
+    private static final String LIMIT_PARAM = "limit";
 
     private static final Integer PROJECT_ID = 1;
     private static final Integer USER_ID = 1;
     private static final Project PROJECT = new Project("Test Project", "Test Description");
     private static final User USER = new User("Test User");
+    private static final String PREFIX = "Test";
+    private static final String TOO_LONG_PREFIX = "a".repeat(256);
+    private static final String NEXT_CURSOR = "VGVzdCBQcm9qZWN0";
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int LIMIT = 10;
 
     private static final ApiErrorResponse UNAUTHORIZED_RESPONSE = ApiErrorResponse.builder()
             .exceptionName("InsufficientAuthenticationException")
@@ -91,13 +102,54 @@ class ProjectControllerTest extends IntegrationTest {
     @Test
     @WithDefaultUser
     void testGetAllProjects() throws Exception {
-        List<Project> projects = List.of(PROJECT);
-        when(projectService.getAllProjects()).thenReturn(projects);
+        CursorPage<Project> page = new CursorPage<>(List.of(PROJECT), NEXT_CURSOR);
+        when(projectService.getAllProjects(null, null, DEFAULT_LIMIT)).thenReturn(page);
 
         api.perform(get(PROJECTS_ENDPOINT)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(projects)));
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetAllProjectsWithPrefixAndCursor() throws Exception {
+        CursorPage<Project> page = new CursorPage<>(List.of(PROJECT), null);
+        when(projectService.getAllProjects(PREFIX, NEXT_CURSOR, LIMIT)).thenReturn(page);
+
+        api.perform(get(PROJECTS_ENDPOINT)
+                        .param(PREFIX_PARAM, PREFIX)
+                        .param(CURSOR_PARAM, NEXT_CURSOR)
+                        .param(LIMIT_PARAM, String.valueOf(LIMIT))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetAllProjectsWithTooLongPrefix() throws Exception {
+        api.perform(get(PROJECTS_ENDPOINT)
+                        .param(PREFIX_PARAM, TOO_LONG_PREFIX)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetAllProjectsNotModified() throws Exception {
+        when(projectService.getAllProjects(null, null, DEFAULT_LIMIT)).thenReturn(new CursorPage<>(List.of(PROJECT), null));
+
+        String etag = api.perform(get(PROJECTS_ENDPOINT))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        api.perform(get(PROJECTS_ENDPOINT)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -6,10 +6,16 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.onevoker.timetracker.IntegrationTest;
 import com.onevoker.timetracker.controllers.security.annotations.WithAdminUser;
 import com.onevoker.timetracker.controllers.security.annotations.WithDefaultUser;
+import com.onevoker.timetracker.domain.export.ExportFormat;
+import com.onevoker.timetracker.domain.export.RecordExportFilter;
+import com.onevoker.timetracker.domain.services.interfaces.RecordExportService;
 import com.onevoker.timetracker.domain.services.interfaces.RecordService;
 import com.onevoker.timetracker.dto.ApiErrorResponse;
+import com.onevoker.timetracker.dto.CursorPage;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
+import com.onevoker.timetracker.exceptions.UnauthorizedUserException;
 import com.onevoker.timetracker.security.services.VerifyService;
 import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,18 +24,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -42,6 +57,9 @@ class RecordControllerTest extends IntegrationTest {
     @MockBean
     private RecordService recordService;
 
+    @MockBean
+    private RecordExportService recordExportService;
+
     @MockBean
     private VerifyService verifyService;
 
@@ -53,6 +71,12 @@ class RecordControllerTest extends IntegrationTest {
     private static final String PROJECTS_WITH_ID_ENDPOINT = "/projects/{projectId}";
     private static final String USERS_WITH_ID_ENDPOINT = "/users/{userId}";
     private static final String BETWEEN_DATES_ENDPOINT = "/between-dates";
+    private static final String STREAM_ENDPOINT = "/stream";
+    private static final String BATCH_ENDPOINT = "/batch";
+    private static final String EXPORT_ENDPOINT = "/export";
+    private static final String FORMAT_PARAM = "format";
+    private static final String CURSOR_PARAM = "cursor";
+    private static final String LIMIT_PARAM = "limit";
     private static final String START_DATE_PARAM = "startDate";
     private static final String END_DATE_PARAM = "endDate";
 
@@ -60,8 +84,19 @@ class RecordControllerTest extends IntegrationTest {
     private static final Integer USER_ID = 1;
     private static final Integer PROJECT_ID = 1;
     private static final RecordRequest RECORD_REQUEST = new RecordRequest(5, "Test Description");
+    private static final List<RecordBatchRequest> RECORD_BATCH_REQUESTS = List.of(
+            new RecordBatchRequest(USER_ID, PROJECT_ID, 5, "Test Description"),
+            new RecordBatchRequest(USER_ID, PROJECT_ID, 3, "Another Description")
+    );
     private static final String START_DATE = "2023-01-01T00:00:00Z";
     private static final String END_DATE = "2023-12-31T23:59:59Z";
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int LIMIT = 10;
+    private static final int TOO_BIG_LIMIT = 1001;
+    private static final String CSV_EXPORT = "project,username,hours,description,created_at\n";
+    private static final String CSV_CONTENT_DISPOSITION = "attachment; filename=\"records.csv\"";
+    private static final String CURSOR = "MjAyMy0wMS0wMVQwMDowMFp8MQ";
+    private static final String NEXT_CURSOR = "MjAyMy0wMS0wMlQwMDowMFp8Mg";
     private static final RecordResponse RECORD_RESPONSE = new RecordResponse("Test Project",
             "Test User",
             5,
@@ -106,15 +141,157 @@ class RecordControllerTest extends IntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @WithDefaultUser
+    void testCreateRecords() throws Exception {
+        doNothing().when(verifyService).verifyUserId(anyInt(), any(UserPrincipal.class));
+        doNothing().when(recordService).createRecords(RECORD_BATCH_REQUESTS);
+
+        String requestBody = objectMapper.writeValueAsString(RECORD_BATCH_REQUESTS);
+
+        api.perform(post(RECORDS_ENDPOINT + BATCH_ENDPOINT)
+                        .content(requestBody)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testCreateRecordsWithEmptyBatch() throws Exception {
+        api.perform(post(RECORDS_ENDPOINT + BATCH_ENDPOINT)
+                        .content(objectMapper.writeValueAsString(List.of()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testCreateRecordsForOtherUser() throws Exception {
+        doThrow(new UnauthorizedUserException("You can't manage other users' data, even if you are an admin"))
+                .when(verifyService).verifyUserId(anyInt(), any(UserPrincipal.class));
+
+        String requestBody = objectMapper.writeValueAsString(RECORD_BATCH_REQUESTS);
+
+        api.perform(post(RECORDS_ENDPOINT + BATCH_ENDPOINT)
+                        .content(requestBody)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @WithAdminUser
     void testGetAllRecords() throws Exception {
-        when(recordService.getAllRecords()).thenReturn(List.of(RECORD_RESPONSE));
+        CursorPage<RecordResponse> page = new CursorPage<>(List.of(RECORD_RESPONSE), NEXT_CURSOR);
+        when(recordService.getAllRecords(null, DEFAULT_LIMIT)).thenReturn(page);
 
         api.perform(get(RECORDS_ENDPOINT)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(List.of(RECORD_RESPONSE))));
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+    }
+
+    @Test
+    @WithAdminUser
+    void testGetAllRecordsWithCursor() throws Exception {
+        CursorPage<RecordResponse> page = new CursorPage<>(List.of(RECORD_RESPONSE), null);
+        when(recordService.getAllRecords(CURSOR, LIMIT)).thenReturn(page);
+
+        api.perform(get(RECORDS_ENDPOINT)
+                        .param(CURSOR_PARAM, CURSOR)
+                        .param(LIMIT_PARAM, String.valueOf(LIMIT))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+    }
+
+    @Test
+    @WithAdminUser
+    void testGetAllRecordsWithTooBigLimit() throws Exception {
+        api.perform(get(RECORDS_ENDPOINT)
+                        .param(LIMIT_PARAM, String.valueOf(TOO_BIG_LIMIT))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetAllRecordsForbidden() throws Exception {
+        api.perform(get(RECORDS_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithAdminUser
+    void testStreamAllRecords() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(objectMapper.writeValueAsBytes(RECORD_RESPONSE));
+            return null;
+        }).when(recordExportService).exportRecords(eq(RecordExportFilter.all()), eq(ExportFormat.NDJSON), any());
+
+        MvcResult result = api.perform(get(RECORDS_ENDPOINT + STREAM_ENDPOINT)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        api.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().json(objectMapper.writeValueAsString(RECORD_RESPONSE)));
+    }
+
+    @Test
+    @WithAdminUser
+    void testExportRecords() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(CSV_EXPORT.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(recordExportService).exportRecords(any(), eq(ExportFormat.CSV), any());
+
+        MvcResult result = api.perform(get(RECORDS_ENDPOINT + EXPORT_ENDPOINT)
+                        .param(FORMAT_PARAM, "csv")
+                        .param(START_DATE_PARAM, START_DATE)
+                        .param(END_DATE_PARAM, END_DATE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        api.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ExportFormat.CSV.getMediaType()))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, CSV_CONTENT_DISPOSITION))
+                .andExpect(content().string(CSV_EXPORT));
+    }
+
+    @Test
+    @WithAdminUser
+    void testExportRecordsWithUnknownFormat() throws Exception {
+        api.perform(get(RECORDS_ENDPOINT + EXPORT_ENDPOINT)
+                        .param(FORMAT_PARAM, "xml")
+                        .param(START_DATE_PARAM, START_DATE)
+                        .param(END_DATE_PARAM, END_DATE))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithAdminUser
+    void testExportRecordsWithWrongDates() throws Exception {
+        api.perform(get(RECORDS_ENDPOINT + EXPORT_ENDPOINT)
+                        .param(FORMAT_PARAM, "ndjson")
+                        .param(START_DATE_PARAM, END_DATE)
+                        .param(END_DATE_PARAM, START_DATE))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testExportRecordsForbidden() throws Exception {
+        api.perform(get(RECORDS_ENDPOINT + EXPORT_ENDPOINT)
+                        .param(FORMAT_PARAM, "csv")
+                        .param(START_DATE_PARAM, START_DATE)
+                        .param(END_DATE_PARAM, END_DATE))
+                .andExpect(status().isForbidden());
     }
 
     @Test
@@ -131,8 +308,7 @@ class RecordControllerTest extends IntegrationTest {
     @Test
     @WithDefaultUser
     void testUpdateRecord() throws Exception {
-        doNothing().when(verifyService).verifyUserByRecordId(anyInt(), any(UserPrincipal.class));
-        doNothing().when(recordService).updateRecord(anyInt(), any(RecordRequest.class));
+        doNothing().when(recordService).updateRecord(anyInt(), anyInt(), any(RecordRequest.class));
 
         String requestBody = objectMapper.writeValueAsString(RECORD_REQUEST);
 
@@ -145,8 +321,7 @@ class RecordControllerTest extends IntegrationTest {
     @Test
     @WithDefaultUser
     void testDeleteRecord() throws Exception {
-        doNothing().when(verifyService).verifyUserForDeleteRecord(anyInt(), any(UserPrincipal.class));
-        doNothing().when(recordService).deleteRecord(anyInt());
+        doNothing().when(recordService).deleteRecord(anyInt(), anyInt());
 
         api.perform(delete(RECORDS_ENDPOINT + RECORD_ID_PARAM, RECORD_ID)
                         .contentType(MediaType.APPLICATION_JSON))
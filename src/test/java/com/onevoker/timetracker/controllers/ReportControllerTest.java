@@ -0,0 +1,107 @@
+package com.onevoker.timetracker.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.controllers.security.annotations.WithDefaultUser;
+import com.onevoker.timetracker.domain.reports.ProjectHoursGrouping;
+import com.onevoker.timetracker.domain.reports.UserHoursGrouping;
+import com.onevoker.timetracker.domain.services.interfaces.ReportService;
+import com.onevoker.timetracker.dto.ApiErrorResponse;
+import com.onevoker.timetracker.dto.HoursReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReportControllerTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc api;
+
+    @MockBean
+    private ReportService reportService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String PROJECT_HOURS_ENDPOINT = "/reports/projects/{projectId}/hours";
+    private static final String USER_HOURS_ENDPOINT = "/reports/users/{userId}/hours";
+    private static final String START_DATE_PARAM = "startDate";
+    private static final String END_DATE_PARAM = "endDate";
+    private static final String GROUP_BY_PARAM = "groupBy";
+
+    private static final Integer PROJECT_ID = 1;
+    private static final Integer USER_ID = 1;
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 1, 31);
+    private static final List<HoursReport> HOURS_REPORTS = List.of(new HoursReport("Onevoker", 8, 2));
+    private static final ApiErrorResponse INVALID_GROUP_BY_ERROR = ApiErrorResponse.builder()
+            .exceptionName("InvalidRequestParameterException")
+            .exceptionMessage("groupBy must be one of: user, day, week")
+            .code("400 BAD_REQUEST")
+            .build();
+
+    @Test
+    void testGetProjectHoursUnauthorized() throws Exception {
+        api.perform(get(PROJECT_HOURS_ENDPOINT, PROJECT_ID)
+                        .param(START_DATE_PARAM, START_DATE.toString())
+                        .param(END_DATE_PARAM, END_DATE.toString())
+                        .param(GROUP_BY_PARAM, "user")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetProjectHours() throws Exception {
+        when(reportService.getProjectHours(PROJECT_ID, START_DATE, END_DATE, ProjectHoursGrouping.USER))
+                .thenReturn(HOURS_REPORTS);
+
+        api.perform(get(PROJECT_HOURS_ENDPOINT, PROJECT_ID)
+                        .param(START_DATE_PARAM, START_DATE.toString())
+                        .param(END_DATE_PARAM, END_DATE.toString())
+                        .param(GROUP_BY_PARAM, "User")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(HOURS_REPORTS)));
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetProjectHoursWithInvalidGroupBy() throws Exception {
+        api.perform(get(PROJECT_HOURS_ENDPOINT, PROJECT_ID)
+                        .param(START_DATE_PARAM, START_DATE.toString())
+                        .param(END_DATE_PARAM, END_DATE.toString())
+                        .param(GROUP_BY_PARAM, "month")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(objectMapper.writeValueAsString(INVALID_GROUP_BY_ERROR)));
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetUserHours() throws Exception {
+        when(reportService.getUserHours(USER_ID, START_DATE, END_DATE, UserHoursGrouping.WEEK))
+                .thenReturn(HOURS_REPORTS);
+
+        api.perform(get(USER_HOURS_ENDPOINT, USER_ID)
+                        .param(START_DATE_PARAM, START_DATE.toString())
+                        .param(END_DATE_PARAM, END_DATE.toString())
+                        .param(GROUP_BY_PARAM, "week")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(HOURS_REPORTS)));
+    }
+}
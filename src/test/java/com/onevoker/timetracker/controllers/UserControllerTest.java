@@ -6,6 +6,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.onevoker.timetracker.IntegrationTest;
 import com.onevoker.timetracker.controllers.security.annotations.WithDefaultUser;
 import com.onevoker.timetracker.domain.services.interfaces.UserService;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.dto.User;
@@ -18,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -30,6 +32,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -50,8 +53,17 @@ class UserControllerTest extends IntegrationTest {
     private static final String USER_ID_PARAM = "/{id}";
     private static final String RECORDS_ENDPOINT = "/{id}/records";
     private static final String PROJECTS_ENDPOINT = "/{id}/projects";
+    private static final String PREFIX_PARAM = "prefix";
+    private static final String CURSOR_PARAM = "cursor";
+    private static final String LIMIT_PARAM = "limit";
 
     private static final Integer USER_ID = 1;
+    private static final String PREFIX = "Test";
+    private static final String NEXT_CURSOR = "VGVzdCBVc2Vy";
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int LIMIT = 10;
+    private static final int TOO_BIG_LIMIT = 1001;
+    private static final String CACHE_CONTROL = "no-cache, private";
     private static final User USER = new User("Test User");
     private static final Project PROJECT = new Project("Test Project", "Test Description");
     private static final AuthRequest AUTH_REQUEST = AuthRequest.builder()
@@ -81,12 +93,55 @@ class UserControllerTest extends IntegrationTest {
     @Test
     @WithDefaultUser
     void testGetAllUsers() throws Exception {
-        when(userService.getAllUsers()).thenReturn(List.of(USER));
+        CursorPage<User> page = new CursorPage<>(List.of(USER), NEXT_CURSOR);
+        when(userService.getAllUsers(null, null, DEFAULT_LIMIT)).thenReturn(page);
 
         api.perform(get(USERS_ENDPOINT)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(List.of(USER))));
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetAllUsersWithPrefixAndCursor() throws Exception {
+        CursorPage<User> page = new CursorPage<>(List.of(USER), null);
+        when(userService.getAllUsers(PREFIX, NEXT_CURSOR, LIMIT)).thenReturn(page);
+
+        api.perform(get(USERS_ENDPOINT)
+                        .param(PREFIX_PARAM, PREFIX)
+                        .param(CURSOR_PARAM, NEXT_CURSOR)
+                        .param(LIMIT_PARAM, String.valueOf(LIMIT))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetAllUsersWithTooBigLimit() throws Exception {
+        api.perform(get(USERS_ENDPOINT)
+                        .param(LIMIT_PARAM, String.valueOf(TOO_BIG_LIMIT))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithDefaultUser
+    void testGetAllUsersNotModified() throws Exception {
+        when(userService.getAllUsers(null, null, DEFAULT_LIMIT)).thenReturn(new CursorPage<>(List.of(USER), null));
+
+        String etag = api.perform(get(USERS_ENDPOINT))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        api.perform(get(USERS_ENDPOINT)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
     @Test
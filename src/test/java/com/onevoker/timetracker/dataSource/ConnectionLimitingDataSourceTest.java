@@ -0,0 +1,87 @@
+package com.onevoker.timetracker.dataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class ConnectionLimitingDataSourceTest {
+    private static final int MAX_CONNECTIONS = 1;
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(50);
+    private static final Duration WAITING_TIMEOUT = Duration.ofSeconds(10);
+
+    private DataSource targetDataSource;
+    private Connection targetConnection;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, MAX_CONNECTIONS, ACQUIRE_TIMEOUT);
+    }
+
+    @Test
+    void testGetConnectionTimesOutWhenAllConnectionsAreTaken() throws SQLException {
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void testCloseReturnsPermitOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        dataSource.getConnection();
+
+        verify(targetConnection, times(2)).close();
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void testPermitIsReturnedWhenTargetFails() throws SQLException {
+        when(targetDataSource.getConnection())
+                .thenThrow(new SQLException())
+                .thenReturn(targetConnection);
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        Connection connection = dataSource.getConnection();
+
+        assertThat(connection.isClosed()).isFalse();
+    }
+
+    @Test
+    void testWaitingThreadsAreCounted() throws Exception {
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, MAX_CONNECTIONS, WAITING_TIMEOUT);
+        Connection connection = dataSource.getConnection();
+
+        Thread waitingThread = Thread.ofVirtual().start(() -> {
+            try {
+                dataSource.getConnection();
+            } catch (SQLException ignored) {
+            }
+        });
+        while (dataSource.getWaitingThreads() == 0) {
+            Thread.onSpinWait();
+        }
+        int waitingThreads = dataSource.getWaitingThreads();
+        connection.close();
+        waitingThread.join();
+
+        assertThat(waitingThreads).isEqualTo(1);
+        assertThat(dataSource.getWaitingThreads()).isZero();
+    }
+}
@@ -0,0 +1,72 @@
+package com.onevoker.timetracker.dataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+    private DataSource primaryDataSource;
+    private DataSource replicaDataSource;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primaryDataSource = mock(DataSource.class);
+        replicaDataSource = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        dataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaDataSource);
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        verifyNoInteractions(primaryDataSource);
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesPrimaryWhenReplicaUnavailable() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        dataSource.setReplicaAvailable(false);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaDataSource);
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhenReplicaFails() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException());
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+
+        dataSource.getConnection();
+        verify(replicaDataSource, times(1)).getConnection();
+    }
+}
@@ -0,0 +1,109 @@
+package com.onevoker.timetracker.dataSource;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.UserService;
+import com.onevoker.timetracker.dto.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Replica here is a separate database with the same schema, not a streaming replica,
+ * so a row inserted only into it shows which data source served the read
+ */
+@SpringBootTest
+public class ReplicaRoutingIT extends IntegrationTest {
+    public static PostgreSQLContainer<?> REPLICA;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserEntityRepository userEntityRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    private static final String PSQL_IMAGE = "postgres:16";
+    private static final String REPLICA_ONLY_USERNAME = "replica-only-user";
+    private static final int PAGE_LIMIT = 50;
+    private static final String INSERT_USER_SQL = "INSERT INTO users (username, password) VALUES (?, 'password')";
+    private static final String DELETE_USER_SQL = "DELETE FROM users WHERE username = ?";
+
+    static {
+        REPLICA = new PostgreSQLContainer<>(PSQL_IMAGE);
+        REPLICA.start();
+
+        runMigrations(REPLICA);
+    }
+
+    @DynamicPropertySource
+    private static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("replica-datasource.enabled", () -> true);
+        registry.add("replica-datasource.url", REPLICA::getJdbcUrl);
+        registry.add("replica-datasource.username", REPLICA::getUsername);
+        registry.add("replica-datasource.password", REPLICA::getPassword);
+        // tests switch availability themselves, the scheduled check must not interfere
+        registry.add("replica-datasource.lag-check-interval", () -> "PT1H");
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword()
+        ));
+        replicaJdbcTemplate.update(INSERT_USER_SQL, REPLICA_ONLY_USERNAME);
+        replicaRoutingDataSource.setReplicaAvailable(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaJdbcTemplate.update(DELETE_USER_SQL, REPLICA_ONLY_USERNAME);
+        replicaRoutingDataSource.setReplicaAvailable(true);
+    }
+
+    @Test
+    void testReadOnlyTransactionReadsReplica() {
+        assertThat(userService.getAllUsers(REPLICA_ONLY_USERNAME, null, PAGE_LIMIT).items())
+                .extracting(User::username)
+                .contains(REPLICA_ONLY_USERNAME);
+    }
+
+    @Test
+    void testReadsOutsideReadOnlyTransactionUsePrimary() {
+        assertThat(userEntityRepository.existsByUsername(REPLICA_ONLY_USERNAME)).isFalse();
+    }
+
+    @Test
+    void testReadOnlyTransactionReadsPrimaryWhenReplicaUnavailable() {
+        replicaRoutingDataSource.setReplicaAvailable(false);
+
+        assertThat(userService.getAllUsers(REPLICA_ONLY_USERNAME, null, PAGE_LIMIT).items())
+                .extracting(User::username)
+                .doesNotContain(REPLICA_ONLY_USERNAME);
+    }
+
+    @Test
+    void testLagMonitorRestoresCaughtUpReplica() {
+        replicaRoutingDataSource.setReplicaAvailable(false);
+
+        replicaLagMonitor.checkReplicaLag();
+
+        assertThat(replicaRoutingDataSource.isReplicaAvailable()).isTrue();
+    }
+}
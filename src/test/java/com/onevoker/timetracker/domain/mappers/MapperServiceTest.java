@@ -3,7 +3,11 @@ package com.onevoker.timetracker.domain.mappers;
 import com.onevoker.timetracker.domain.entities.ProjectEntity;
 import com.onevoker.timetracker.domain.entities.RecordEntity;
 import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.projections.HoursAggregate;
+import com.onevoker.timetracker.domain.projections.RecordRow;
+import com.onevoker.timetracker.dto.HoursReport;
 import com.onevoker.timetracker.dto.Project;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
 import com.onevoker.timetracker.dto.User;
@@ -86,6 +90,17 @@ public class MapperServiceTest {
         assertThat(result).isEqualTo(expected);
     }
 
+    @Test
+    void testGetRecordResponseFromRecordRow() {
+        OffsetDateTime time = OffsetDateTime.now();
+        RecordRow recordRow = new RecordRow(1, PROJECT_NAME, USERNAME, WORK_HOURS, RECORD_DESCRIPTION, time);
+
+        RecordResponse result = mapperService.getRecordResponse(recordRow);
+        RecordResponse expected = new RecordResponse(PROJECT_NAME, USERNAME, WORK_HOURS, RECORD_DESCRIPTION, time);
+
+        assertThat(result).isEqualTo(expected);
+    }
+
     @Test
     void testGetRecordEntity() {
         RecordRequest recordRequest = new RecordRequest(WORK_HOURS, RECORD_DESCRIPTION);
@@ -97,4 +112,43 @@ public class MapperServiceTest {
                 () -> assertThat(result.getDescription()).isEqualTo(RECORD_DESCRIPTION)
         );
     }
+
+    @Test
+    void testGetRecordEntityFromRecordBatchRequest() {
+        RecordBatchRequest recordBatchRequest = new RecordBatchRequest(1, 1, WORK_HOURS, RECORD_DESCRIPTION);
+
+        RecordEntity result = mapperService.getRecordEntity(recordBatchRequest);
+
+        assertAll(
+                () -> assertThat(result.getHours()).isEqualTo(WORK_HOURS),
+                () -> assertThat(result.getDescription()).isEqualTo(RECORD_DESCRIPTION)
+        );
+    }
+
+    @Test
+    void testGetHoursReport() {
+        long totalHours = 25;
+        long recordsCount = 3;
+        HoursAggregate hoursAggregate = new HoursAggregate() {
+            @Override
+            public String getGrouping() {
+                return USERNAME;
+            }
+
+            @Override
+            public Long getTotalHours() {
+                return totalHours;
+            }
+
+            @Override
+            public Long getRecordsCount() {
+                return recordsCount;
+            }
+        };
+
+        HoursReport result = mapperService.getHoursReport(hoursAggregate);
+        HoursReport expected = new HoursReport(USERNAME, totalHours, recordsCount);
+
+        assertThat(result).isEqualTo(expected);
+    }
 }
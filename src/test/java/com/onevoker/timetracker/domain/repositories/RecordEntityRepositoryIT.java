@@ -0,0 +1,242 @@
+package com.onevoker.timetracker.domain.repositories;
+
+import com.onevoker.timetracker.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.onevoker.timetracker.instrumentation.QueryStatsAssertions.capture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Explains the SQL Hibernate generates for RecordEntityRepository queries, captured by the instrumentation,
+ * so a changed join, predicate or ORDER BY shows up in the plan
+ */
+@SpringBootTest(properties = "instrumentation.enabled=true")
+@Transactional
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RecordEntityRepositoryIT extends IntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordPartitionRepository recordPartitionRepository;
+
+    @Autowired
+    private RecordEntityRepository recordEntityRepository;
+
+    private Integer projectId;
+    private Integer userId;
+
+    // Set up data
+    private static final int USERS_COUNT = 100;
+    private static final int PROJECTS_COUNT = 20;
+    private static final int RECORDS_COUNT = 200_000;
+    private static final String USERNAME_PREFIX = "explain_user_";
+    private static final String PROJECT_NAME_PREFIX = "explain_project_";
+    private static final OffsetDateTime START_DATE = OffsetDateTime.parse("2024-02-01T00:00:00Z");
+    private static final OffsetDateTime END_DATE = OffsetDateTime.parse("2024-02-02T00:00:00Z");
+    private static final OffsetDateTime KEYSET_CREATED_AT = OffsetDateTime.parse("2024-03-01T00:00:00Z");
+    private static final int KEYSET_ID = 0;
+    private static final Pageable PAGE = PageRequest.ofSize(101);
+    private static final LocalDate FIRST_PARTITION_MONTH = LocalDate.parse("2024-01-01");
+    private static final LocalDate LAST_PARTITION_MONTH = LocalDate.parse("2024-06-01");
+
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+    private static final String SEQ_SCAN_ON_RECORDS = "Seq Scan on records";
+    private static final String INDEX_SCAN = "Index";
+    private static final String PARTITION_PREFIX = "records_";
+    private static final String DATE_RANGE_PARTITION = "records_y2024m02";
+    private static final String SUBPLANS_REMOVED = "Subplans Removed";
+
+    /***
+     * Seeded once and committed, inserting through the rollup trigger before every test is too slow.
+     * Test transactions still roll back, {@link #tearDown()} removes the seed
+     */
+    @BeforeAll
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // seeded records span 2024-01 to 2024-05, they must not fall into records_default
+            recordPartitionRepository.createPartitions(FIRST_PARTITION_MONTH, LAST_PARTITION_MONTH);
+            jdbcTemplate.update("""
+                    INSERT INTO users (username, password)
+                    SELECT ? || i, 'password' FROM generate_series(1, ?) i
+                    """, USERNAME_PREFIX, USERS_COUNT);
+            jdbcTemplate.update("""
+                    INSERT INTO projects (name)
+                    SELECT ? || i FROM generate_series(1, ?) i
+                    """, PROJECT_NAME_PREFIX, PROJECTS_COUNT);
+            jdbcTemplate.update("""
+                    INSERT INTO records (user_id, project_id, hours, description, created_at)
+                    SELECT u.id, p.id, 1, 'seeded', TIMESTAMPTZ '2024-01-01' + i * INTERVAL '1 minute'
+                    FROM generate_series(1, ?) i
+                    JOIN users u ON u.username = ? || (i % ? + 1)
+                    JOIN projects p ON p.name = ? || (i % ? + 1)
+                    """, RECORDS_COUNT, USERNAME_PREFIX, USERS_COUNT, PROJECT_NAME_PREFIX, PROJECTS_COUNT);
+        });
+        jdbcTemplate.execute("ANALYZE records");
+
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Integer.class, USERNAME_PREFIX + 1);
+        projectId = jdbcTemplate.queryForObject("SELECT id FROM projects WHERE name = ?", Integer.class, PROJECT_NAME_PREFIX + 1);
+    }
+
+    @AfterAll
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // records and rollup rows go with their users and projects
+            jdbcTemplate.update("DELETE FROM users WHERE starts_with(username, ?)", USERNAME_PREFIX);
+            jdbcTemplate.update("DELETE FROM projects WHERE starts_with(name, ?)", PROJECT_NAME_PREFIX);
+            recordPartitionRepository.dropEmptyPartitionsBefore(LAST_PARTITION_MONTH.plusMonths(1));
+        });
+    }
+
+    @Test
+    void testFindByProjectIdAndUserIdBetweenUsesIndex() {
+        String sql = captureSql(() -> recordEntityRepository.findByProjectIdAndUserIdBetween(projectId, userId, START_DATE, END_DATE));
+
+        assertUsesIndex(explain(sql, projectId, userId, START_DATE, END_DATE));
+    }
+
+    @Test
+    void testFindByUserIdBetweenUsesIndex() {
+        String sql = captureSql(() -> recordEntityRepository.findByUserIdBetween(userId, START_DATE, END_DATE));
+
+        assertUsesIndex(explain(sql, userId, START_DATE, END_DATE));
+    }
+
+    @Test
+    void testFindAllBetweenUsesIndex() {
+        String sql = captureSql(() -> recordEntityRepository.findAllBetween(START_DATE, END_DATE));
+
+        assertUsesIndex(explain(sql, START_DATE, END_DATE));
+    }
+
+    @Test
+    void testFindByProjectIdBetweenUsesIndex() {
+        String sql = captureSql(() -> recordEntityRepository.findByProjectIdBetween(projectId, START_DATE, END_DATE));
+
+        assertUsesIndex(explain(sql, projectId, START_DATE, END_DATE));
+    }
+
+    @Test
+    void testFindFirstPageUsesIndex() {
+        String sql = captureSql(() -> recordEntityRepository.findFirstPage(PAGE));
+
+        assertUsesIndex(explain(sql, PAGE.getOffset(), PAGE.getPageSize()));
+    }
+
+    @Test
+    void testFindPageAfterUsesIndex() {
+        String sql = captureSql(() -> recordEntityRepository.findPageAfter(KEYSET_CREATED_AT, KEYSET_ID, PAGE));
+
+        assertUsesIndex(explain(sql, KEYSET_CREATED_AT, KEYSET_CREATED_AT, KEYSET_ID, PAGE.getOffset(), PAGE.getPageSize()));
+    }
+
+    @Test
+    void testFindByProjectIdAndUserIdBetweenPrunesPartitions() {
+        String sql = captureSql(() -> recordEntityRepository.findByProjectIdAndUserIdBetween(projectId, userId, START_DATE, END_DATE));
+
+        assertScansOnlyPartition(explain(sql, projectId, userId, START_DATE, END_DATE));
+    }
+
+    @Test
+    void testFindByUserIdBetweenPrunesPartitions() {
+        String sql = captureSql(() -> recordEntityRepository.findByUserIdBetween(userId, START_DATE, END_DATE));
+
+        assertScansOnlyPartition(explain(sql, userId, START_DATE, END_DATE));
+    }
+
+    @Test
+    void testFindAllBetweenPrunesPartitions() {
+        String sql = captureSql(() -> recordEntityRepository.findAllBetween(START_DATE, END_DATE));
+
+        assertScansOnlyPartition(explain(sql, START_DATE, END_DATE));
+    }
+
+    @Test
+    void testFindByProjectIdBetweenPrunesPartitions() {
+        String sql = captureSql(() -> recordEntityRepository.findByProjectIdBetween(projectId, START_DATE, END_DATE));
+
+        assertScansOnlyPartition(explain(sql, projectId, START_DATE, END_DATE));
+    }
+
+    /***
+     * The driver switches to a server-side prepared statement after a few executions,
+     * its generic plan does not know the dates and prunes partitions on executor startup
+     */
+    @Test
+    void testFindAllBetweenPrunesPartitionsInGenericPlan() {
+        String sql = captureSql(() -> recordEntityRepository.findAllBetween(START_DATE, END_DATE));
+
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        jdbcTemplate.execute("PREPARE find_all_between(TIMESTAMPTZ, TIMESTAMPTZ) AS " + toNumberedParameters(sql));
+        try {
+            List<String> plan = jdbcTemplate.queryForList(
+                    "EXPLAIN EXECUTE find_all_between('%s', '%s')".formatted(START_DATE, END_DATE), String.class
+            );
+
+            assertThat(String.join("\n", plan)).contains(SUBPLANS_REMOVED);
+            assertThat(getScannedPartitions(plan)).containsOnly(DATE_RANGE_PARTITION);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE find_all_between");
+        }
+    }
+
+    private static String captureSql(Runnable query) {
+        String sql = capture(query).getLastStatement();
+        assertThat(sql).isNotNull();
+
+        return sql;
+    }
+
+    private List<String> explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    /***
+     * JDBC ? placeholders to $1, $2, ... of PREPARE
+     */
+    private static String toNumberedParameters(String sql) {
+        AtomicInteger number = new AtomicInteger();
+        return PARAMETER.matcher(sql).replaceAll(match -> Matcher.quoteReplacement("$" + number.incrementAndGet()));
+    }
+
+    private void assertScansOnlyPartition(List<String> plan) {
+        assertThat(getScannedPartitions(plan)).containsOnly(DATE_RANGE_PARTITION);
+    }
+
+    private List<String> getScannedPartitions(List<String> plan) {
+        return recordPartitionRepository.findPartitionNames().stream()
+                .filter(partition -> partition.startsWith(PARTITION_PREFIX))
+                .filter(partition -> plan.stream().anyMatch(line -> line.contains(" " + partition + " ")))
+                .toList();
+    }
+
+    private void assertUsesIndex(List<String> plan) {
+        String joinedPlan = String.join("\n", plan);
+
+        assertThat(joinedPlan)
+                .contains(INDEX_SCAN)
+                .doesNotContain(SEQ_SCAN_ON_RECORDS);
+    }
+}
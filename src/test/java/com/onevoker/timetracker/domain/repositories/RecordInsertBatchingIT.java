@@ -0,0 +1,93 @@
+package com.onevoker.timetracker.domain.repositories;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RecordEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.instrumentation.QueryStats;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.onevoker.timetracker.instrumentation.QueryStatsAssertions.capture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/***
+ * Inserts of records go in JDBC batches (sequence ids with hibernate.jdbc.batch_size),
+ * not one round trip per row as with IDENTITY ids. Throughput is measured by RecordInsertBenchmark
+ */
+@SpringBootTest(properties = "instrumentation.enabled=true")
+@Transactional
+public class RecordInsertBatchingIT extends IntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProjectEntity projectEntity;
+    private UserEntity userEntity;
+
+    // Set up data
+    private static final String PROJECT_NAME = "TimeTracker";
+    private static final String USER_USERNAME = "Onevoker";
+    private static final String USER_PASSWORD = "reallyGoodPassword";
+    private static final String RECORD_DESCRIPTION = "Worked on feature";
+    private static final int RECORD_HOURS = 5;
+    private static final int RECORDS_COUNT = 500;
+    // hibernate.jdbc.batch_size and the increment of records_id_seq
+    private static final int BATCH_SIZE = 50;
+    private static final int NO_BATCHING = 1;
+
+    @BeforeEach
+    void setUp() {
+        projectEntity = new ProjectEntity();
+        projectEntity.setName(PROJECT_NAME);
+        entityManager.persist(projectEntity);
+
+        userEntity = new UserEntity();
+        userEntity.setUsername(USER_USERNAME);
+        userEntity.setPassword(USER_PASSWORD);
+        entityManager.persist(userEntity);
+
+        entityManager.flush();
+    }
+
+    @Test
+    void testInsertsAreBatched() {
+        QueryStats queryStats = capture(() -> insertRecords(RECORDS_COUNT));
+
+        assertAll(
+                () -> assertThat(queryStats.getJdbcBatches()).isEqualTo(RECORDS_COUNT / BATCH_SIZE),
+                // one sequence call and one prepared insert per batch
+                () -> assertThat(queryStats.getQueries()).isLessThanOrEqualTo(2L * RECORDS_COUNT / BATCH_SIZE + 1)
+        );
+    }
+
+    @Test
+    void testInsertsWithoutBatchingRunOneStatementPerRecord() {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(NO_BATCHING);
+
+        QueryStats queryStats = capture(() -> insertRecords(RECORDS_COUNT));
+
+        assertAll(
+                () -> assertThat(queryStats.getJdbcBatches()).isZero(),
+                () -> assertThat(queryStats.getQueries()).isGreaterThanOrEqualTo(RECORDS_COUNT)
+        );
+    }
+
+    private void insertRecords(int count) {
+        for (int i = 0; i < count; i++) {
+            RecordEntity recordEntity = new RecordEntity();
+            recordEntity.setHours(RECORD_HOURS);
+            recordEntity.setDescription(RECORD_DESCRIPTION);
+            recordEntity.setUserEntity(userEntity);
+            recordEntity.setProjectEntity(projectEntity);
+            entityManager.persist(recordEntity);
+        }
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,137 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.configs.CacheNames;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
+import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectMembershipService;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Transactional
+public class ProjectMembershipServiceImplIT extends IntegrationTest {
+
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectEntityRepository projectEntityRepository;
+
+    @Autowired
+    private UserEntityRepository userEntityRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectEntity projectEntity;
+    private UserEntity userEntity;
+
+    // Set up data
+    private static final String PROJECT_NAME = "TimeTracker";
+    private static final String USER_USERNAME = "Onevoker";
+    private static final String USER_PASSWORD = "reallyGoodPassword";
+
+    @BeforeEach
+    void setUp() {
+        projectEntity = new ProjectEntity();
+        projectEntity.setName(PROJECT_NAME);
+        projectEntityRepository.save(projectEntity);
+
+        userEntity = new UserEntity();
+        userEntity.setUsername(USER_USERNAME);
+        userEntity.setPassword(USER_PASSWORD);
+        userEntityRepository.save(userEntity);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // the target cache, clearing the decorator would wait for the rolled back test transaction
+        getMembershipCache().getTargetCache().clear();
+    }
+
+    @Test
+    void testIsUserInProject() {
+        projectEntity.getUserEntities().add(userEntity);
+        projectEntityRepository.save(projectEntity);
+
+        assertThat(projectMembershipService.isUserInProject(projectEntity.getId(), userEntity.getId())).isTrue();
+    }
+
+    @Test
+    void testIsUserInProjectReturnsFalse() {
+        assertThat(projectMembershipService.isUserInProject(projectEntity.getId(), userEntity.getId())).isFalse();
+    }
+
+    @Test
+    void testMembershipIsEvictedWhenUserIsAddedAndDeleted() {
+        Integer projectId = projectEntity.getId();
+        Integer userId = userEntity.getId();
+
+        assertThat(projectMembershipService.isUserInProject(projectId, userId)).isFalse();
+
+        projectService.addUserToProject(userId, projectId);
+        assertThat(projectMembershipService.isUserInProject(projectId, userId)).isTrue();
+
+        projectService.deleteUserFromProject(userId, projectId);
+        assertThat(projectMembershipService.isUserInProject(projectId, userId)).isFalse();
+    }
+
+    @Test
+    void testIsUserInProjectDoesNotCacheFalse() {
+        Integer projectId = projectEntity.getId();
+        Integer userId = userEntity.getId();
+        // outside of the test transaction, so the result would be put at once
+        TransactionTemplate withoutTransaction = new TransactionTemplate(transactionManager);
+        withoutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+        Boolean inProject = withoutTransaction.execute(status -> projectMembershipService.isUserInProject(projectId, userId));
+
+        assertAll(
+                () -> assertThat(inProject).isFalse(),
+                () -> assertThat(getMembershipCache().get(projectId + ":" + userId)).isNull()
+        );
+    }
+
+    @Test
+    void testMembershipIsEvictedAfterCommit() {
+        Integer projectId = projectEntity.getId();
+        Integer userId = userEntity.getId();
+        projectEntity.getUserEntities().add(userEntity);
+        projectEntityRepository.save(projectEntity);
+        getMembershipCache().getTargetCache().put(projectId + ":" + userId, true);
+
+        projectService.deleteUserFromProject(userId, projectId);
+
+        // the test transaction is not committed, the membership stays cached until it is
+        assertThat(getMembershipCache().get(projectId + ":" + userId)).isNotNull();
+    }
+
+    private TransactionAwareCacheDecorator getMembershipCache() {
+        Cache cache = cacheManager.getCache(CacheNames.PROJECT_MEMBERSHIP);
+        assertThat(cache).isInstanceOf(TransactionAwareCacheDecorator.class);
+        return (TransactionAwareCacheDecorator) cache;
+    }
+}
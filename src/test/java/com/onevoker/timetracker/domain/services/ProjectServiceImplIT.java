@@ -6,11 +6,14 @@ import com.onevoker.timetracker.domain.entities.UserEntity;
 import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
 import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
 import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.User;
+import com.onevoker.timetracker.exceptions.NotFoundException;
 import com.onevoker.timetracker.exceptions.SameProjectNameException;
 import com.onevoker.timetracker.exceptions.UserInProjectException;
 import com.onevoker.timetracker.exceptions.DuplicateDataException;
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,13 +48,18 @@ public class ProjectServiceImplIT extends IntegrationTest {
     private static final Project PROJECT = new Project(PROJECT_NAME, PROJECT_DESCRIPTION);
     private static final String USER_USERNAME = "Onevoker";
     private static final String USER_PASSWORD = "reallyGoodPassword";
+    private static final String OTHER_USER_USERNAME = "AnotherUser";
     private static final String NEW_PROJECT_NAME = "NewTimeTracker";
     private static final String NEW_PROJECT_DESCRIPTION = "Even cooler project!";
+    private static final String PAGE_PREFIX = "Page ";
+    private static final String INVALID_CURSOR = "not a cursor!";
+    private static final int PAGE_LIMIT = 50;
 
     // Messages from exceptions
     private static final String USER_ALREADY_IN_PROJECT_MESSAGE = "This user is already in the project";
     private static final String SAME_PROJECT_NAMES_MESSAGE = "The name of the project is the same as its current name";
     private static final String WAS_CREATED_MESSAGE = "This project was created before";
+    private static final String NO_PROJECT_MESSAGE = "This project does not exist";
 
     @BeforeEach
     void setUp() {
@@ -89,18 +97,39 @@ public class ProjectServiceImplIT extends IntegrationTest {
 
     @Test
     void testGetAllProjects() {
-        List<Project> projects = projectService.getAllProjects();
+        CursorPage<Project> page = projectService.getAllProjects(null, null, PAGE_LIMIT);
         int expectedSize = 1;
 
         assertAll(
-                () -> assertThat(projects).hasSize(expectedSize),
-                () -> {
-                    Project foundProject = projects.getFirst();
-                    assertThat(foundProject).isEqualTo(PROJECT);
-                }
+                () -> assertThat(page.items()).hasSize(expectedSize),
+                () -> assertThat(page.items().getFirst()).isEqualTo(PROJECT),
+                () -> assertThat(page.nextCursor()).isNull()
         );
     }
 
+    @Test
+    void testGetAllProjectsByPages() {
+        List<String> names = List.of("Page B", "Page A", "Page C", "page D", "Pager");
+        names.forEach(name -> projectService.createProject(new Project(name, PROJECT_DESCRIPTION)));
+
+        CursorPage<Project> firstPage = projectService.getAllProjects(PAGE_PREFIX, null, 2);
+        CursorPage<Project> secondPage = projectService.getAllProjects(PAGE_PREFIX, firstPage.nextCursor(), 2);
+
+        // prefix is case-sensitive, "page D" and "Pager" do not match
+        assertAll(
+                () -> assertThat(firstPage.items()).extracting(Project::name).containsExactly("Page A", "Page B"),
+                () -> assertThat(firstPage.nextCursor()).isNotNull(),
+                () -> assertThat(secondPage.items()).extracting(Project::name).containsExactly("Page C"),
+                () -> assertThat(secondPage.nextCursor()).isNull()
+        );
+    }
+
+    @Test
+    void testGetAllProjectsThrowsInvalidCursorException() {
+        assertThatThrownBy(() -> projectService.getAllProjects(null, INVALID_CURSOR, PAGE_LIMIT))
+                .isInstanceOf(InvalidRequestParameterException.class);
+    }
+
     @Test
     void testGetProjectById() {
         Project foundProject = projectService.getProjectById(projectEntity.getId());
@@ -146,6 +175,35 @@ public class ProjectServiceImplIT extends IntegrationTest {
                 .hasMessage(SAME_PROJECT_NAMES_MESSAGE);
     }
 
+    @Test
+    void testUpdateProjectOnlyDescription() {
+        Project updatedProject = new Project(PROJECT_NAME, NEW_PROJECT_DESCRIPTION);
+
+        projectService.updateProject(projectEntity.getId(), updatedProject);
+
+        ProjectEntity updatedProjectEntity = projectEntityRepository.findById(projectEntity.getId()).orElse(null);
+
+        assertThat(updatedProjectEntity.getDescription()).isEqualTo(NEW_PROJECT_DESCRIPTION);
+    }
+
+    @Test
+    void testUpdateProjectThrowsNotFoundException() {
+        assertThatThrownBy(() -> projectService.updateProject(Integer.MAX_VALUE, PROJECT))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(NO_PROJECT_MESSAGE);
+    }
+
+    @Test
+    void testUpdateProjectThrowsDuplicateDataException() {
+        ProjectEntity otherProjectEntity = new ProjectEntity();
+        otherProjectEntity.setName(NEW_PROJECT_NAME);
+        projectEntityRepository.save(otherProjectEntity);
+
+        assertThatThrownBy(() -> projectService.updateProject(projectEntity.getId(), new Project(NEW_PROJECT_NAME, null)))
+                .isInstanceOf(DuplicateDataException.class)
+                .hasMessage(WAS_CREATED_MESSAGE);
+    }
+
     @Test
     void testDeleteProject() {
         projectService.deleteProject(projectEntity.getId());
@@ -161,7 +219,27 @@ public class ProjectServiceImplIT extends IntegrationTest {
 
         ProjectEntity updatedProjectEntity = projectEntityRepository.findById(projectEntity.getId()).orElse(null);
 
-        assertThat(updatedProjectEntity.getUserEntities()).contains(userEntity);
+        assertThat(updatedProjectEntity.getUserEntities())
+                .extracting(UserEntity::getId)
+                .containsExactly(userEntity.getId());
+    }
+
+    @Test
+    void testAddUserToProjectKeepsOtherMembers() {
+        UserEntity otherUserEntity = new UserEntity();
+        otherUserEntity.setUsername(OTHER_USER_USERNAME);
+        otherUserEntity.setPassword(USER_PASSWORD);
+        userEntityRepository.save(otherUserEntity);
+        projectEntity.getUserEntities().add(otherUserEntity);
+        projectEntityRepository.save(projectEntity);
+
+        projectService.addUserToProject(userEntity.getId(), projectEntity.getId());
+
+        ProjectEntity updatedProjectEntity = projectEntityRepository.findById(projectEntity.getId()).orElse(null);
+
+        assertThat(updatedProjectEntity.getUserEntities())
+                .extracting(UserEntity::getId)
+                .containsExactlyInAnyOrder(userEntity.getId(), otherUserEntity.getId());
     }
 
     @Test
@@ -183,6 +261,15 @@ public class ProjectServiceImplIT extends IntegrationTest {
 
         ProjectEntity updatedProjectEntity = projectEntityRepository.findById(projectEntity.getId()).orElse(null);
 
-        assertThat(updatedProjectEntity.getUserEntities()).doesNotContain(userEntity);
+        assertThat(updatedProjectEntity.getUserEntities())
+                .extracting(UserEntity::getId)
+                .doesNotContain(userEntity.getId());
+    }
+
+    @Test
+    void testDeleteUserFromProjectThrowsNotFoundException() {
+        assertThatThrownBy(() -> projectService.deleteUserFromProject(userEntity.getId(), Integer.MAX_VALUE))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(NO_PROJECT_MESSAGE);
     }
 }
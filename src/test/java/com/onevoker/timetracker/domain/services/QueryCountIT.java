@@ -0,0 +1,125 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RoleEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.repositories.RoleEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
+import com.onevoker.timetracker.domain.services.interfaces.UserService;
+import com.onevoker.timetracker.dto.User;
+import com.onevoker.timetracker.security.services.UserPrincipalService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.onevoker.timetracker.instrumentation.QueryStatsAssertions.assertNoCollectionFetches;
+import static com.onevoker.timetracker.instrumentation.QueryStatsAssertions.assertQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Counts SQL statements behind service methods used by endpoints,
+ * so the roles join or N+1 selects don't come back unnoticed
+ */
+@SpringBootTest(properties = "instrumentation.enabled=true")
+@Transactional
+public class QueryCountIT extends IntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserPrincipalService userPrincipalService;
+
+    @Autowired
+    private RoleEntityRepository roleEntityRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProjectEntity projectEntity;
+    private Integer memberId;
+
+    // Set up data
+    private static final String PROJECT_NAME = "TimeTracker";
+    private static final String USERNAME_PREFIX = "Onevoker";
+    private static final String USER_PASSWORD = "reallyGoodPassword";
+    private static final String ROLE_USER = "ROLE_User";
+    private static final String NEW_USERNAME = "NewMember";
+    private static final int USERS_COUNT = 10;
+
+    @BeforeEach
+    void setUp() {
+        RoleEntity roleUser = roleEntityRepository.findByName(ROLE_USER).orElseThrow();
+
+        projectEntity = new ProjectEntity();
+        projectEntity.setName(PROJECT_NAME);
+        entityManager.persist(projectEntity);
+
+        for (int i = 0; i < USERS_COUNT; i++) {
+            UserEntity userEntity = new UserEntity();
+            userEntity.setUsername(USERNAME_PREFIX + i);
+            userEntity.setPassword(USER_PASSWORD);
+            userEntity.getRoleEntities().add(roleUser);
+            entityManager.persist(userEntity);
+            projectEntity.getUserEntities().add(userEntity);
+            memberId = userEntity.getId();
+        }
+
+        // nothing is served from the persistence context during the test
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testGetAllUsersRunsOneQuery() {
+        assertQueryCount(1, () -> assertThat(userService.getAllUsers(USERNAME_PREFIX, null, USERS_COUNT).items()).hasSize(USERS_COUNT));
+    }
+
+    @Test
+    void testGetAllUsersOnProjectRunsOneQuery() {
+        assertQueryCount(1, () -> assertThat(projectService.getAllUsersOnProject(projectEntity.getId())).hasSize(USERS_COUNT));
+    }
+
+    @Test
+    void testGetAllUsersOnProjectHasNoLazyFetches() {
+        List<User> users = new ArrayList<>();
+
+        assertNoCollectionFetches(() -> users.addAll(projectService.getAllUsersOnProject(projectEntity.getId())));
+        assertThat(users).hasSize(USERS_COUNT);
+    }
+
+    @Test
+    void testLoadUserByUsernameRunsOneQuery() {
+        assertQueryCount(1, () -> {
+            UserDetails userDetails = userPrincipalService.loadUserByUsername(USERNAME_PREFIX + 0);
+            assertThat(userDetails.getAuthorities()).hasSize(1);
+        });
+    }
+
+    @Test
+    void testAddUserToProjectHasNoCollectionFetches() {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setUsername(NEW_USERNAME);
+        userEntity.setPassword(USER_PASSWORD);
+        entityManager.persist(userEntity);
+
+        assertNoCollectionFetches(() -> projectService.addUserToProject(userEntity.getId(), projectEntity.getId()));
+    }
+
+    @Test
+    void testDeleteUserFromProjectHasNoCollectionFetches() {
+        assertNoCollectionFetches(() -> projectService.deleteUserFromProject(memberId, projectEntity.getId()));
+        assertThat(projectService.getAllUsersOnProject(projectEntity.getId())).hasSize(USERS_COUNT - 1);
+    }
+}
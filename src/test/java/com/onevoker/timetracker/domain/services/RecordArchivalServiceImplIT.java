@@ -0,0 +1,182 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.domain.archival.RecordArchivalStatus;
+import com.onevoker.timetracker.domain.entities.RecordArchivalRunEntity;
+import com.onevoker.timetracker.domain.repositories.RecordArchivalRunEntityRepository;
+import com.onevoker.timetracker.domain.repositories.RecordArchiveRepository;
+import com.onevoker.timetracker.domain.repositories.RecordPartitionRepository;
+import com.onevoker.timetracker.domain.services.interfaces.RecordArchivalService;
+import com.onevoker.timetracker.dto.RecordArchivalRun;
+import com.onevoker.timetracker.exceptions.ArchivalInProgressException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = "record-archival.chunk-size=" + RecordArchivalServiceImplIT.CHUNK_SIZE)
+@Transactional
+public class RecordArchivalServiceImplIT extends IntegrationTest {
+
+    @Autowired
+    private RecordArchivalService recordArchivalService;
+
+    @Autowired
+    private RecordArchivalRunEntityRepository recordArchivalRunEntityRepository;
+
+    @Autowired
+    private RecordArchiveRepository recordArchiveRepository;
+
+    @Autowired
+    private RecordPartitionRepository recordPartitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Set up data
+    static final int CHUNK_SIZE = 2;
+    private static final int OLD_RECORDS_COUNT = 5;
+    private static final int RECENT_RECORDS_COUNT = 3;
+    private static final LocalDate OLD_MONTH = LocalDate.now(ZoneOffset.UTC).minusYears(2).withDayOfMonth(1);
+    private static final String OLD_PARTITION = OLD_MONTH.format(DateTimeFormatter.ofPattern("'records_y'yyyy'm'MM"));
+    private static final String INTERRUPTED_MESSAGE = "Interrupted";
+
+    @BeforeEach
+    void setUp() {
+        recordPartitionRepository.createPartitions(OLD_MONTH, OLD_MONTH);
+
+        jdbcTemplate.update("INSERT INTO users (username, password) VALUES ('archival_user', 'password')");
+        jdbcTemplate.update("INSERT INTO projects (name) VALUES ('archival_project')");
+        insertRecords(OLD_RECORDS_COUNT, OLD_MONTH.atStartOfDay().atOffset(ZoneOffset.UTC));
+        insertRecords(RECENT_RECORDS_COUNT, OffsetDateTime.now());
+    }
+
+    @Test
+    void testArchiveOldRecords() {
+        long rollupRecordsBefore = countRollupRecords();
+
+        RecordArchivalRun run = recordArchivalService.archiveOldRecords();
+
+        assertAll(
+                () -> assertThat(run.status()).isEqualTo(RecordArchivalStatus.COMPLETED),
+                () -> assertThat(run.archivedRecords()).isEqualTo(OLD_RECORDS_COUNT),
+                () -> assertThat(run.finishedAt()).isNotNull(),
+                () -> assertThat(countRecords()).isEqualTo(RECENT_RECORDS_COUNT),
+                () -> assertThat(recordArchiveRepository.countArchivedRecords()).isEqualTo(OLD_RECORDS_COUNT),
+                () -> assertThat(countRollupRecords()).isEqualTo(rollupRecordsBefore),
+                () -> assertThat(recordPartitionRepository.findPartitionNames()).doesNotContain(OLD_PARTITION)
+        );
+    }
+
+    @Test
+    void testArchiveOldRecordsIsIdempotent() {
+        recordArchivalService.archiveOldRecords();
+
+        RecordArchivalRun secondRun = recordArchivalService.archiveOldRecords();
+
+        assertAll(
+                () -> assertThat(secondRun.status()).isEqualTo(RecordArchivalStatus.COMPLETED),
+                () -> assertThat(secondRun.archivedRecords()).isZero(),
+                () -> assertThat(recordArchiveRepository.countArchivedRecords()).isEqualTo(OLD_RECORDS_COUNT),
+                () -> assertThat(recordArchivalService.getArchivalRuns(10)).hasSize(2)
+        );
+    }
+
+    @Test
+    void testArchiveOldRecordsTakesOverStaleRun() {
+        RecordArchivalRunEntity staleRun = saveRunningRun(OffsetDateTime.now().minusHours(1));
+
+        RecordArchivalRun run = recordArchivalService.archiveOldRecords();
+        RecordArchivalRun failedRun = recordArchivalService.getArchivalRun(staleRun.getId());
+
+        assertAll(
+                () -> assertThat(run.status()).isEqualTo(RecordArchivalStatus.COMPLETED),
+                () -> assertThat(failedRun.status()).isEqualTo(RecordArchivalStatus.FAILED),
+                () -> assertThat(failedRun.error()).isEqualTo(INTERRUPTED_MESSAGE)
+        );
+    }
+
+    @Test
+    void testArchiveOldRecordsThrowsArchivalInProgressException() {
+        saveRunningRun(OffsetDateTime.now());
+
+        assertThatThrownBy(() -> recordArchivalService.archiveOldRecords())
+                .isInstanceOf(ArchivalInProgressException.class);
+    }
+
+    @Test
+    void testArchiveChunkFailsOnArchivedRecord() {
+        jdbcTemplate.update("""
+                INSERT INTO records_archive (id, user_id, project_id, hours, description, created_at, archived_at)
+                SELECT id, user_id, project_id, hours, description, created_at, now()
+                FROM records
+                WHERE created_at < ?
+                """, OLD_MONTH.plusMonths(1).atStartOfDay().atOffset(ZoneOffset.UTC));
+        OffsetDateTime horizon = OffsetDateTime.now().minusYears(1);
+
+        assertThatThrownBy(() -> recordArchiveRepository.archiveChunk(horizon, CHUNK_SIZE))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void testFailedRunIsNotFinished() {
+        RecordArchivalRunEntity staleRun = saveRunningRun(OffsetDateTime.now().minusHours(1));
+        OffsetDateTime now = OffsetDateTime.now();
+        recordArchivalRunEntityRepository.failStaleRuns(
+                now, INTERRUPTED_MESSAGE, now, RecordArchivalStatus.RUNNING, RecordArchivalStatus.FAILED
+        );
+
+        int updated = recordArchivalRunEntityRepository.updateProgress(
+                staleRun.getId(), OLD_RECORDS_COUNT, now, RecordArchivalStatus.RUNNING
+        );
+        int finished = recordArchivalRunEntityRepository.finish(
+                staleRun.getId(), RecordArchivalStatus.COMPLETED, null, now, RecordArchivalStatus.RUNNING
+        );
+        RecordArchivalRun failedRun = recordArchivalService.getArchivalRun(staleRun.getId());
+
+        assertAll(
+                () -> assertThat(updated).isZero(),
+                () -> assertThat(finished).isZero(),
+                () -> assertThat(failedRun.status()).isEqualTo(RecordArchivalStatus.FAILED),
+                () -> assertThat(failedRun.archivedRecords()).isZero()
+        );
+    }
+
+    private RecordArchivalRunEntity saveRunningRun(OffsetDateTime updatedAt) {
+        RecordArchivalRunEntity run = new RecordArchivalRunEntity();
+        run.setStatus(RecordArchivalStatus.RUNNING);
+        run.setHorizon(updatedAt.minusMonths(13));
+        run.setStartedAt(updatedAt);
+        run.setUpdatedAt(updatedAt);
+        return recordArchivalRunEntityRepository.saveAndFlush(run);
+    }
+
+    private void insertRecords(int count, OffsetDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO records (user_id, project_id, hours, created_at)
+                SELECT u.id, p.id, 1, ?
+                FROM generate_series(1, ?), users u, projects p
+                WHERE u.username = 'archival_user' AND p.name = 'archival_project'
+                """, createdAt, count);
+    }
+
+    private long countRecords() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM records", Long.class);
+    }
+
+    private long countRollupRecords() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(records_count), 0) FROM records_daily_rollup", Long.class);
+    }
+}
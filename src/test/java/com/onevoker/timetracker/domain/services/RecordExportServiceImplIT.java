@@ -0,0 +1,129 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RecordEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.export.ExportFormat;
+import com.onevoker.timetracker.domain.export.RecordExportFilter;
+import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
+import com.onevoker.timetracker.domain.repositories.RecordEntityRepository;
+import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.RecordExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+public class RecordExportServiceImplIT extends IntegrationTest {
+
+    @Autowired
+    private RecordExportService recordExportService;
+
+    @Autowired
+    private ProjectEntityRepository projectEntityRepository;
+
+    @Autowired
+    private UserEntityRepository userEntityRepository;
+
+    @Autowired
+    private RecordEntityRepository recordEntityRepository;
+
+    private ProjectEntity firstProject;
+    private ProjectEntity secondProject;
+    private UserEntity userEntity;
+
+    private static final String USER_USERNAME = "Onevoker";
+    private static final String USER_PASSWORD = "reallyGoodPassword";
+    private static final String FIRST_PROJECT_NAME = "TimeTracker";
+    private static final String SECOND_PROJECT_NAME = "Another";
+    private static final int RECORD_HOURS = 5;
+    private static final String RECORD_DESCRIPTION = "Worked on feature";
+    private static final int RECORDS_ON_PROJECT = 3;
+    private static final String CSV_HEADER = "project,username,hours,description,created_at";
+
+    @BeforeEach
+    void setUp() {
+        userEntity = new UserEntity();
+        userEntity.setUsername(USER_USERNAME);
+        userEntity.setPassword(USER_PASSWORD);
+        userEntityRepository.save(userEntity);
+
+        firstProject = saveProject(FIRST_PROJECT_NAME);
+        secondProject = saveProject(SECOND_PROJECT_NAME);
+
+        for (int i = 0; i < RECORDS_ON_PROJECT; i++) {
+            saveRecord(firstProject);
+            saveRecord(secondProject);
+        }
+        recordEntityRepository.flush();
+    }
+
+    @Test
+    void testExportAllRecordsAsCsv() {
+        List<String> lines = export(new RecordExportFilter(
+                OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(1), null, null
+        ), ExportFormat.CSV);
+
+        assertThat(lines).hasSize(2 * RECORDS_ON_PROJECT + 1);
+        assertThat(lines.getFirst()).isEqualTo(CSV_HEADER);
+    }
+
+    @Test
+    void testExportAllRecordsWithoutDates() {
+        List<String> lines = export(RecordExportFilter.all(), ExportFormat.NDJSON);
+
+        assertThat(lines).hasSize(2 * RECORDS_ON_PROJECT);
+    }
+
+    @Test
+    void testExportRecordsOnProjectForUser() {
+        List<String> lines = export(new RecordExportFilter(
+                OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(1),
+                firstProject.getId(), userEntity.getId()
+        ), ExportFormat.NDJSON);
+
+        assertThat(lines).hasSize(RECORDS_ON_PROJECT);
+        assertThat(lines).allMatch(line -> line.contains(FIRST_PROJECT_NAME));
+    }
+
+    @Test
+    void testExportRecordsOutsideDates() {
+        List<String> lines = export(new RecordExportFilter(
+                OffsetDateTime.now().minusDays(2), OffsetDateTime.now().minusDays(1), null, null
+        ), ExportFormat.NDJSON);
+
+        assertThat(lines).isEmpty();
+    }
+
+    private List<String> export(RecordExportFilter filter, ExportFormat format) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        recordExportService.exportRecords(filter, format, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private ProjectEntity saveProject(String name) {
+        ProjectEntity projectEntity = new ProjectEntity();
+        projectEntity.setName(name);
+        return projectEntityRepository.save(projectEntity);
+    }
+
+    private void saveRecord(ProjectEntity projectEntity) {
+        RecordEntity recordEntity = new RecordEntity();
+        recordEntity.setProjectEntity(projectEntity);
+        recordEntity.setUserEntity(userEntity);
+        recordEntity.setHours(RECORD_HOURS);
+        recordEntity.setDescription(RECORD_DESCRIPTION);
+        recordEntityRepository.save(recordEntity);
+    }
+}
@@ -0,0 +1,101 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onevoker.timetracker.domain.export.ExportFormat;
+import com.onevoker.timetracker.domain.export.RecordExportFilter;
+import com.onevoker.timetracker.domain.repositories.RecordExportRepository;
+import com.onevoker.timetracker.dto.RecordResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class RecordExportServiceImplTest {
+    private RecordExportServiceImpl recordExportService;
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.parse("2024-05-01T10:15:30Z");
+    private static final RecordExportFilter FILTER = new RecordExportFilter(
+            CREATED_AT.minusDays(1), CREATED_AT.plusDays(1), null, null
+    );
+    private static final List<RecordResponse> RECORDS = List.of(
+            new RecordResponse("TimeTracker", "Onevoker", 5, "Worked on feature", CREATED_AT),
+            new RecordResponse("Time, \"Tracker\"", "Onevoker", 3, "line\nbreak", CREATED_AT),
+            new RecordResponse(null, "Onevoker", 1, null, CREATED_AT)
+    );
+    private static final String EXPECTED_CSV = """
+            project,username,hours,description,created_at
+            TimeTracker,Onevoker,5,Worked on feature,2024-05-01T10:15:30Z
+            \"Time, ""Tracker""\",Onevoker,3,"line
+            break",2024-05-01T10:15:30Z
+            ,Onevoker,1,,2024-05-01T10:15:30Z
+            """;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        RecordExportRepository recordExportRepository = mock(RecordExportRepository.class);
+        doAnswer(invocation -> {
+            Consumer<RecordResponse> consumer = invocation.getArgument(1);
+            RECORDS.forEach(consumer);
+            return null;
+        }).when(recordExportRepository).streamRecords(any(), any());
+
+        recordExportService = new RecordExportServiceImpl(recordExportRepository, objectMapper);
+    }
+
+    @Test
+    void testExportRecordsAsCsv() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        recordExportService.exportRecords(FILTER, ExportFormat.CSV, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(EXPECTED_CSV);
+    }
+
+    @Test
+    void testExportRecordsAsNdjson() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        recordExportService.exportRecords(FILTER, ExportFormat.NDJSON, outputStream);
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(RECORDS.size());
+        assertThat(lines.getFirst()).isEqualTo(
+                "{\"projectName\":\"TimeTracker\",\"username\":\"Onevoker\",\"hours\":5,"
+                        + "\"description\":\"Worked on feature\",\"createdAt\":\"2024-05-01T10:15:30Z\"}"
+        );
+    }
+
+    @Test
+    void testExportRecordsAsNdjsonDoesNotFlushPerRecord() {
+        FlushCountingOutputStream outputStream = new FlushCountingOutputStream();
+
+        recordExportService.exportRecords(FILTER, ExportFormat.NDJSON, outputStream);
+
+        // each flush is an HTTP chunk and a gzip sync flush, only closing the writer may flush
+        assertThat(outputStream.flushes).isLessThanOrEqualTo(1);
+    }
+
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.configs.RecordPartitionsPropertiesConfig;
+import com.onevoker.timetracker.domain.repositories.RecordPartitionRepository;
+import com.onevoker.timetracker.domain.services.interfaces.RecordPartitionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Transactional
+public class RecordPartitionServiceImplIT extends IntegrationTest {
+
+    @Autowired
+    private RecordPartitionService recordPartitionService;
+
+    @Autowired
+    private RecordPartitionRepository recordPartitionRepository;
+
+    @Autowired
+    private RecordPartitionsPropertiesConfig recordPartitionsPropertiesConfig;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'records_y'yyyy'm'MM");
+    private static final String DEFAULT_PARTITION = "records_default";
+    // far enough ahead to have no partition yet
+    private static final LocalDate FUTURE_MONTH = LocalDate.now(ZoneOffset.UTC).plusYears(10).withDayOfMonth(1);
+
+    @Test
+    void testCreateUpcomingPartitions() {
+        recordPartitionService.createUpcomingPartitions();
+
+        LocalDate currentMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        List<String> expectedPartitions = IntStream.rangeClosed(0, recordPartitionsPropertiesConfig.monthsAhead())
+                .mapToObj(months -> currentMonth.plusMonths(months).format(PARTITION_NAME_FORMAT))
+                .toList();
+
+        assertThat(recordPartitionRepository.findPartitionNames())
+                .containsAll(expectedPartitions)
+                .contains(DEFAULT_PARTITION);
+    }
+
+    @Test
+    void testCreateUpcomingPartitionsIsIdempotent() {
+        recordPartitionService.createUpcomingPartitions();
+        List<String> partitions = recordPartitionRepository.findPartitionNames();
+
+        recordPartitionService.createUpcomingPartitions();
+
+        assertThat(recordPartitionRepository.findPartitionNames()).isEqualTo(partitions);
+    }
+
+    @Test
+    void testCreatePartitionsMovesDefaultRows() {
+        jdbcTemplate.update("INSERT INTO users (username, password) VALUES ('partition_user', 'password')");
+        jdbcTemplate.update("INSERT INTO projects (name) VALUES ('partition_project')");
+        jdbcTemplate.update("""
+                INSERT INTO records (user_id, project_id, hours, created_at)
+                SELECT u.id, p.id, 3, ?
+                FROM users u, projects p
+                WHERE u.username = 'partition_user' AND p.name = 'partition_project'
+                """, FUTURE_MONTH.atStartOfDay().atOffset(ZoneOffset.UTC).plusDays(1));
+        long rollupHoursBefore = sumRollupHours();
+
+        recordPartitionRepository.createPartitions(FUTURE_MONTH, FUTURE_MONTH);
+
+        assertAll(
+                () -> assertThat(recordPartitionRepository.findPartitionNames())
+                        .contains(FUTURE_MONTH.format(PARTITION_NAME_FORMAT)),
+                () -> assertThat(jdbcTemplate.queryForList("SELECT tableoid::regclass::text FROM records WHERE created_at > ?",
+                        String.class, OffsetDateTime.now().plusYears(5)))
+                        .containsExactly(FUTURE_MONTH.format(PARTITION_NAME_FORMAT)),
+                () -> assertThat(sumRollupHours()).isEqualTo(rollupHoursBefore)
+        );
+    }
+
+    private long sumRollupHours() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(sum_hours), 0) FROM records_daily_rollup", Long.class);
+    }
+}
@@ -8,8 +8,12 @@ import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
 import com.onevoker.timetracker.domain.repositories.RecordEntityRepository;
 import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
 import com.onevoker.timetracker.domain.services.interfaces.RecordService;
+import com.onevoker.timetracker.dto.CursorPage;
+import com.onevoker.timetracker.dto.RecordBatchRequest;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
+import com.onevoker.timetracker.exceptions.NotFoundException;
+import com.onevoker.timetracker.exceptions.UnauthorizedUserException;
 import com.onevoker.timetracker.exceptions.UserNotInProjectException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +22,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,6 +55,7 @@ public class RecordServiceImplIT extends IntegrationTest {
     private static final String USER_PASSWORD = "reallyGoodPassword";
     private static final String RECORD_DESCRIPTION = "Worked on feature";
     private static final int RECORD_HOURS = 5;
+    private static final int PAGE_LIMIT = 10;
     private static final RecordRequest RECORD_REQUEST = new RecordRequest(RECORD_HOURS, RECORD_DESCRIPTION);
     private static final RecordResponse EXPECTED_RECORD_RESPONSE = new RecordResponse(
             PROJECT_NAME,
@@ -61,6 +67,8 @@ public class RecordServiceImplIT extends IntegrationTest {
 
     // Messages from exceptions
     private static final String USER_NOT_IN_PROJECT_MESSAGE = "User does not belong to the project";
+    private static final String UNAUTHORIZED_USER_MESSAGE = "You can't manage other users' data, even if you are an admin";
+    private static final String NO_RECORD_MESSAGE = "This record does not exist";
 
     @BeforeEach
     void setUp() {
@@ -97,18 +105,73 @@ public class RecordServiceImplIT extends IntegrationTest {
                 .hasMessage(USER_NOT_IN_PROJECT_MESSAGE);
     }
 
+    @Test
+    void testCreateRecords() {
+        projectEntity.getUserEntities().add(userEntity);
+        projectEntityRepository.save(projectEntity);
+
+        int recordsCount = 120;
+        List<RecordBatchRequest> recordBatchRequests = new ArrayList<>();
+        for (int i = 0; i < recordsCount; i++) {
+            recordBatchRequests.add(new RecordBatchRequest(
+                    userEntity.getId(), projectEntity.getId(), RECORD_HOURS, RECORD_DESCRIPTION
+            ));
+        }
+
+        recordService.createRecords(recordBatchRequests);
+
+        List<RecordEntity> createdRecords = recordEntityRepository.findAll();
+
+        assertAll(
+                () -> assertThat(createdRecords).hasSize(recordsCount),
+                () -> assertThat(createdRecords).allMatch(record -> record.getHours() == RECORD_HOURS)
+        );
+    }
+
+    @Test
+    void testCreateRecordsThrowsUserNotInProjectException() {
+        List<RecordBatchRequest> recordBatchRequests = List.of(
+                new RecordBatchRequest(userEntity.getId(), projectEntity.getId(), RECORD_HOURS, RECORD_DESCRIPTION)
+        );
+
+        assertThatThrownBy(() -> recordService.createRecords(recordBatchRequests))
+                .isInstanceOf(UserNotInProjectException.class)
+                .hasMessage(USER_NOT_IN_PROJECT_MESSAGE);
+    }
+
     @Test
     void testGetAllRecords() {
         createRecordEntityForTest();
 
-        List<RecordResponse> records = recordService.getAllRecords();
+        CursorPage<RecordResponse> page = recordService.getAllRecords(null, PAGE_LIMIT);
+        List<RecordResponse> records = page.items();
 
         assertAll(
                 () -> assertThat(records).hasSize(1),
-                () -> assertThat(recordsAreEqualsIgnoringCreatedAt(records.getFirst(), EXPECTED_RECORD_RESPONSE)).isTrue()
+                () -> assertThat(recordsAreEqualsIgnoringCreatedAt(records.getFirst(), EXPECTED_RECORD_RESPONSE)).isTrue(),
+                () -> assertThat(page.nextCursor()).isNull()
         );
     }
 
+    @Test
+    void testGetAllRecordsWalksThroughPages() {
+        int recordsCount = 5;
+        for (int i = 0; i < recordsCount; i++) {
+            createRecordEntityForTest();
+        }
+
+        List<RecordResponse> records = new ArrayList<>();
+        CursorPage<RecordResponse> page = recordService.getAllRecords(null, 2);
+        records.addAll(page.items());
+
+        while (page.nextCursor() != null) {
+            page = recordService.getAllRecords(page.nextCursor(), 2);
+            records.addAll(page.items());
+        }
+
+        assertThat(records).hasSize(recordsCount);
+    }
+
     @Test
     void testGetRecordById() {
         RecordEntity recordEntity = createRecordEntityForTest();
@@ -126,7 +189,7 @@ public class RecordServiceImplIT extends IntegrationTest {
         String updatedDescription = "Kek";
         RecordRequest updatedRecordRequest = new RecordRequest(updatedHours, updatedDescription);
 
-        recordService.updateRecord(recordEntity.getId(), updatedRecordRequest);
+        recordService.updateRecord(recordEntity.getId(), userEntity.getId(), updatedRecordRequest);
 
         RecordEntity updatedRecordEntity = recordEntityRepository.findById(recordEntity.getId()).orElse(null);
 
@@ -140,13 +203,41 @@ public class RecordServiceImplIT extends IntegrationTest {
     void testDeleteRecord() {
         RecordEntity recordEntity = createRecordEntityForTest();
 
-        recordService.deleteRecord(recordEntity.getId());
+        recordService.deleteRecord(recordEntity.getId(), userEntity.getId());
 
         RecordEntity deletedRecord = recordEntityRepository.findById(recordEntity.getId()).orElse(null);
 
         assertThat(deletedRecord).isNull();
     }
 
+    @Test
+    void testUpdateRecordThrowsUnauthorizedUserException() {
+        RecordEntity recordEntity = createRecordEntityForTest();
+        Integer recordId = recordEntity.getId();
+
+        assertThatThrownBy(() -> recordService.updateRecord(recordId, userEntity.getId() + 1, RECORD_REQUEST))
+                .isInstanceOf(UnauthorizedUserException.class)
+                .hasMessage(UNAUTHORIZED_USER_MESSAGE);
+    }
+
+    @Test
+    void testDeleteRecordThrowsUnauthorizedUserException() {
+        RecordEntity recordEntity = createRecordEntityForTest();
+        Integer recordId = recordEntity.getId();
+
+        assertThatThrownBy(() -> recordService.deleteRecord(recordId, userEntity.getId() + 1))
+                .isInstanceOf(UnauthorizedUserException.class)
+                .hasMessage(UNAUTHORIZED_USER_MESSAGE);
+        assertThat(recordEntityRepository.existsById(recordId)).isTrue();
+    }
+
+    @Test
+    void testDeleteRecordThrowsNotFoundException() {
+        assertThatThrownBy(() -> recordService.deleteRecord(Integer.MAX_VALUE, userEntity.getId()))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(NO_RECORD_MESSAGE);
+    }
+
     @Test
     void testGetRecordsOnProjectBetweenDates() {
         createRecordEntityForTest();
@@ -0,0 +1,167 @@
+package com.onevoker.timetracker.domain.services;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.reports.ProjectHoursGrouping;
+import com.onevoker.timetracker.domain.reports.UserHoursGrouping;
+import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
+import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.ReportService;
+import com.onevoker.timetracker.dto.HoursReport;
+import com.onevoker.timetracker.exceptions.InvalidRequestParameterException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+public class ReportServiceImplIT extends IntegrationTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ProjectEntityRepository projectEntityRepository;
+
+    @Autowired
+    private UserEntityRepository userEntityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProjectEntity projectEntity;
+    private UserEntity userEntity;
+
+    // Set up data
+    private static final String PROJECT_NAME = "TimeTracker";
+    private static final String USER_USERNAME = "Onevoker";
+    private static final String USER_PASSWORD = "reallyGoodPassword";
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2024, 1, 2);
+    private static final OffsetDateTime FIRST_DAY_TIME = OffsetDateTime.parse("2024-01-01T10:00:00Z");
+    private static final OffsetDateTime SECOND_DAY_TIME = OffsetDateTime.parse("2024-01-02T23:30:00Z");
+    private static final OffsetDateTime THIRD_DAY_TIME = OffsetDateTime.parse("2024-01-03T00:00:00Z");
+    private static final int FIRST_DAY_HOURS = 3;
+    private static final int SECOND_DAY_HOURS = 5;
+    private static final int THIRD_DAY_HOURS = 7;
+
+    // Messages from exceptions
+    private static final String INVALID_DATES_MESSAGE = "startDate must not be after endDate";
+
+    @BeforeEach
+    void setUp() {
+        projectEntity = new ProjectEntity();
+        projectEntity.setName(PROJECT_NAME);
+        projectEntityRepository.saveAndFlush(projectEntity);
+
+        userEntity = new UserEntity();
+        userEntity.setUsername(USER_USERNAME);
+        userEntity.setPassword(USER_PASSWORD);
+        userEntityRepository.saveAndFlush(userEntity);
+
+        // created_at is set by @CreationTimestamp on save, so records are inserted directly.
+        // The rollup trigger picks them up like any other write
+        insertRecord(FIRST_DAY_HOURS, FIRST_DAY_TIME);
+        insertRecord(SECOND_DAY_HOURS, SECOND_DAY_TIME);
+        insertRecord(THIRD_DAY_HOURS, THIRD_DAY_TIME);
+    }
+
+    @Test
+    void testGetProjectHoursGroupedByUser() {
+        List<HoursReport> reports = reportService.getProjectHours(
+                projectEntity.getId(), FIRST_DAY, SECOND_DAY, ProjectHoursGrouping.USER
+        );
+
+        assertThat(reports).containsExactly(
+                new HoursReport(USER_USERNAME, FIRST_DAY_HOURS + SECOND_DAY_HOURS, 2)
+        );
+    }
+
+    @Test
+    void testGetProjectHoursGroupedByDay() {
+        List<HoursReport> reports = reportService.getProjectHours(
+                projectEntity.getId(), FIRST_DAY, SECOND_DAY, ProjectHoursGrouping.DAY
+        );
+
+        assertThat(reports).containsExactly(
+                new HoursReport(FIRST_DAY.toString(), FIRST_DAY_HOURS, 1),
+                new HoursReport(SECOND_DAY.toString(), SECOND_DAY_HOURS, 1)
+        );
+    }
+
+    @Test
+    void testGetProjectHoursGroupedByWeek() {
+        List<HoursReport> reports = reportService.getProjectHours(
+                projectEntity.getId(), FIRST_DAY, SECOND_DAY.plusDays(1), ProjectHoursGrouping.WEEK
+        );
+
+        // 2024-01-01 is Monday, so all records are in one week
+        assertThat(reports).containsExactly(
+                new HoursReport(FIRST_DAY.toString(), FIRST_DAY_HOURS + SECOND_DAY_HOURS + THIRD_DAY_HOURS, 3)
+        );
+    }
+
+    @Test
+    void testGetUserHoursGroupedByProject() {
+        List<HoursReport> reports = reportService.getUserHours(
+                userEntity.getId(), FIRST_DAY, SECOND_DAY.plusDays(1), UserHoursGrouping.PROJECT
+        );
+
+        assertThat(reports).containsExactly(
+                new HoursReport(PROJECT_NAME, FIRST_DAY_HOURS + SECOND_DAY_HOURS + THIRD_DAY_HOURS, 3)
+        );
+    }
+
+    @Test
+    void testGetUserHoursGroupedByDay() {
+        List<HoursReport> reports = reportService.getUserHours(
+                userEntity.getId(), SECOND_DAY, SECOND_DAY, UserHoursGrouping.DAY
+        );
+
+        assertThat(reports).containsExactly(
+                new HoursReport(SECOND_DAY.toString(), SECOND_DAY_HOURS, 1)
+        );
+    }
+
+    @Test
+    void testGetProjectHoursReflectsUpdatedAndDeletedRecords() {
+        int updatedHours = 8;
+        jdbcTemplate.update("UPDATE records SET hours = ? WHERE created_at = ?", updatedHours, FIRST_DAY_TIME);
+        jdbcTemplate.update("DELETE FROM records WHERE created_at = ?", SECOND_DAY_TIME);
+
+        List<HoursReport> reports = reportService.getProjectHours(
+                projectEntity.getId(), FIRST_DAY, SECOND_DAY, ProjectHoursGrouping.DAY
+        );
+
+        assertThat(reports).containsExactly(
+                new HoursReport(FIRST_DAY.toString(), updatedHours, 1)
+        );
+    }
+
+    @Test
+    void testGetProjectHoursThrowsInvalidRequestParameterException() {
+        assertThatThrownBy(() -> reportService.getProjectHours(
+                projectEntity.getId(), SECOND_DAY, FIRST_DAY, ProjectHoursGrouping.DAY
+        ))
+                .isInstanceOf(InvalidRequestParameterException.class)
+                .hasMessage(INVALID_DATES_MESSAGE);
+    }
+
+    private void insertRecord(int hours, OffsetDateTime createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO records (user_id, project_id, hours, created_at) VALUES (?, ?, ?, ?)",
+                userEntity.getId(), projectEntity.getId(), hours, createdAt
+        );
+    }
+}
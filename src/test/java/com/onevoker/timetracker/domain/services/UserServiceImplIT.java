@@ -7,6 +7,7 @@ import com.onevoker.timetracker.domain.entities.UserEntity;
 import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
 import com.onevoker.timetracker.domain.repositories.RecordEntityRepository;
 import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
+import com.onevoker.timetracker.dto.CursorPage;
 import com.onevoker.timetracker.dto.Project;
 import com.onevoker.timetracker.dto.RecordRequest;
 import com.onevoker.timetracker.dto.RecordResponse;
@@ -56,6 +57,7 @@ public class UserServiceImplIT extends IntegrationTest {
     private static final String PROJECT_DESCRIPTION = "Test Project Description";
     private static final String RECORD_DESCRIPTION = "Test Record";
     private static final int RECORD_HOURS = 5;
+    private static final int PAGE_LIMIT = 50;
     private static final User EXISTING_USER = new User(USERNAME);
 
     // Messages from exceptions
@@ -85,8 +87,18 @@ public class UserServiceImplIT extends IntegrationTest {
 
     @Test
     void testGetAllUsers() {
-        List<User> users = userService.getAllUsers();
-        assertThat(users).contains(EXISTING_USER);
+        CursorPage<User> page = userService.getAllUsers(null, null, PAGE_LIMIT);
+        assertThat(page.items()).contains(EXISTING_USER);
+    }
+
+    @Test
+    void testGetAllUsersByPrefix() {
+        CursorPage<User> page = userService.getAllUsers(USERNAME.substring(0, 4), null, PAGE_LIMIT);
+
+        assertAll(
+                () -> assertThat(page.items()).containsExactly(EXISTING_USER),
+                () -> assertThat(page.nextCursor()).isNull()
+        );
     }
 
     @Test
@@ -0,0 +1,147 @@
+package com.onevoker.timetracker.domain.services.entityFinder;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.configs.CacheNames;
+import com.onevoker.timetracker.domain.entities.ProjectEntity;
+import com.onevoker.timetracker.domain.entities.RoleEntity;
+import com.onevoker.timetracker.domain.entities.UserEntity;
+import com.onevoker.timetracker.domain.repositories.ProjectEntityRepository;
+import com.onevoker.timetracker.domain.repositories.UserEntityRepository;
+import com.onevoker.timetracker.domain.services.interfaces.ProjectService;
+import com.onevoker.timetracker.domain.services.interfaces.UserService;
+import com.onevoker.timetracker.exceptions.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Transactional
+public class CachingEntityFinderIT extends IntegrationTest {
+    @Autowired
+    private EntityFinder entityFinder;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectEntityRepository projectEntityRepository;
+
+    @Autowired
+    private UserEntityRepository userEntityRepository;
+
+    private ProjectEntity project;
+    private UserEntity user;
+
+    // Set up data
+    private static final String PROJECT_NAME = "TimeTracker";
+    private static final String USER_USERNAME = "Onevoker";
+    private static final String USER_PASSWORD = "reallyGoodPassword";
+    private static final String EXISTS_ROLE = "ROLE_User";
+    private static final String NO_USER_MESSAGE = "This user does not exist";
+    private static final Integer DELETED_ID = -1;
+
+    @BeforeEach
+    void setUp() {
+        project = new ProjectEntity();
+        project.setName(PROJECT_NAME);
+        projectEntityRepository.save(project);
+
+        user = new UserEntity();
+        user.setUsername(USER_USERNAME);
+        user.setPassword(USER_PASSWORD);
+        userEntityRepository.save(user);
+    }
+
+    @Test
+    void testEntityFinderIsCaching() {
+        assertThat(entityFinder).isInstanceOf(CachingEntityFinder.class);
+    }
+
+    @Test
+    void testGetProjectReferenceCachesId() {
+        ProjectEntity first = entityFinder.getProjectReference(project.getId());
+        ProjectEntity second = entityFinder.getProjectReference(project.getId());
+
+        assertAll(
+                () -> assertThat(cacheManager.getCache(CacheNames.PROJECT_IDS).get(project.getId())).isNotNull(),
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(second.getName()).isEqualTo(PROJECT_NAME)
+        );
+    }
+
+    @Test
+    void testGetUserReferenceCachesId() {
+        entityFinder.getUserReference(user.getId());
+        UserEntity cached = entityFinder.getUserReference(user.getId());
+
+        assertAll(
+                () -> assertThat(cacheManager.getCache(CacheNames.USER_IDS).get(user.getId())).isNotNull(),
+                () -> assertThat(cached.getUsername()).isEqualTo(USER_USERNAME)
+        );
+    }
+
+    @Test
+    void testGetRoleEntityCachesId() {
+        RoleEntity role = entityFinder.getRoleEntity(EXISTS_ROLE);
+        RoleEntity cached = entityFinder.getRoleEntity(EXISTS_ROLE);
+
+        assertAll(
+                () -> assertThat(cacheManager.getCache(CacheNames.ROLE_IDS).get(EXISTS_ROLE, Integer.class))
+                        .isEqualTo(role.getId()),
+                () -> assertThat(cached.getName()).isEqualTo(EXISTS_ROLE)
+        );
+    }
+
+    @Test
+    void testDeleteProjectEvictsCachedId() {
+        entityFinder.getProjectReference(project.getId());
+
+        projectService.deleteProject(project.getId());
+
+        assertThatThrownBy(() -> entityFinder.getProjectReference(project.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void testDeleteUserEvictsCachedId() {
+        entityFinder.getUserReference(user.getId());
+
+        userService.deleteUser(user.getId());
+
+        assertThatThrownBy(() -> entityFinder.getUserReference(user.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void testStaleCachedIdIsNotUsedForReads() {
+        cacheManager.getCache(CacheNames.PROJECT_IDS).put(DELETED_ID, DELETED_ID);
+
+        assertThatThrownBy(() -> projectService.getProjectById(DELETED_ID))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void testStaleCachedIdFailsOnInsertAndIsEvicted() {
+        cacheManager.getCache(CacheNames.USER_IDS).put(DELETED_ID, DELETED_ID);
+
+        assertAll(
+                () -> assertThatThrownBy(() -> projectService.addUserToProject(DELETED_ID, project.getId()))
+                        .isInstanceOf(NotFoundException.class)
+                        .hasMessage(NO_USER_MESSAGE),
+                () -> assertThat(cacheManager.getCache(CacheNames.USER_IDS).get(DELETED_ID)).isNull()
+        );
+    }
+}
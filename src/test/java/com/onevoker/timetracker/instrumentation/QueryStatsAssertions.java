@@ -0,0 +1,44 @@
+package com.onevoker.timetracker.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Test support for statement budgets, needs instrumentation.enabled=true in the test context.
+ * Example: {@code assertQueryCount(1, () -> userService.getUserById(id))}
+ */
+public final class QueryStatsAssertions {
+    private QueryStatsAssertions() {
+    }
+
+    public static QueryStats capture(Runnable action) {
+        QueryStats queryStats = QueryStatsHolder.start();
+        try {
+            action.run();
+        } finally {
+            QueryStatsHolder.stop();
+        }
+
+        return queryStats;
+    }
+
+    public static QueryStats assertQueryCount(long expectedQueries, Runnable action) {
+        QueryStats queryStats = capture(action);
+        assertThat(queryStats.getQueries())
+                .as("SQL statements, %s", queryStats)
+                .isEqualTo(expectedQueries);
+
+        return queryStats;
+    }
+
+    /***
+     * Fails on any lazy collection initialization, the usual shape of N+1
+     */
+    public static QueryStats assertNoCollectionFetches(Runnable action) {
+        QueryStats queryStats = capture(action);
+        assertThat(queryStats.getCollectionFetches())
+                .as("lazy collection fetches, %s", queryStats)
+                .isZero();
+
+        return queryStats;
+    }
+}
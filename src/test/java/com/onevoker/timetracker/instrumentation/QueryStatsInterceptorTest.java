@@ -0,0 +1,78 @@
+package com.onevoker.timetracker.instrumentation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class QueryStatsInterceptorTest {
+    private static final String QUERIES_METRIC = "timetracker.request.queries";
+    private static final String CONTROLLER_TAG = "controller";
+    private static final String METHOD_TAG = "method";
+    private static final String HANDLER_METHOD_NAME = "getUsers";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void testRecordsMetricsAndHeaders() throws Exception {
+        QueryStatsInterceptor interceptor = new QueryStatsInterceptor(meterRegistry, true);
+        HandlerMethod handlerMethod = new HandlerMethod(new TestController(), HANDLER_METHOD_NAME);
+
+        interceptor.preHandle(request, response, handlerMethod);
+        QueryStats queryStats = QueryStatsHolder.current();
+        queryStats.incrementQueries();
+        queryStats.incrementQueries();
+        queryStats.incrementCollectionFetches();
+        interceptor.postHandle(request, response, handlerMethod, null);
+        interceptor.afterCompletion(request, response, handlerMethod, null);
+
+        assertAll(
+                () -> assertThat(response.getHeader(QueryStatsInterceptor.QUERY_COUNT_HEADER)).isEqualTo("2"),
+                () -> assertThat(response.getHeader(QueryStatsInterceptor.COLLECTION_FETCHES_HEADER)).isEqualTo("1"),
+                () -> assertThat(meterRegistry.get(QUERIES_METRIC)
+                        .tag(CONTROLLER_TAG, TestController.class.getSimpleName())
+                        .tag(METHOD_TAG, HANDLER_METHOD_NAME)
+                        .summary()
+                        .totalAmount()).isEqualTo(2),
+                () -> assertThat(QueryStatsHolder.current()).isNull()
+        );
+    }
+
+    @Test
+    void testHeadersAreOffByDefault() throws Exception {
+        QueryStatsInterceptor interceptor = new QueryStatsInterceptor(meterRegistry, false);
+        HandlerMethod handlerMethod = new HandlerMethod(new TestController(), HANDLER_METHOD_NAME);
+
+        interceptor.preHandle(request, response, handlerMethod);
+        interceptor.postHandle(request, response, handlerMethod, null);
+        interceptor.afterCompletion(request, response, handlerMethod, null);
+
+        assertThat(response.getHeader(QueryStatsInterceptor.QUERY_COUNT_HEADER)).isNull();
+    }
+
+    @Test
+    void testAsyncHandlingReleasesRequestThread() throws Exception {
+        QueryStatsInterceptor interceptor = new QueryStatsInterceptor(meterRegistry, true);
+        HandlerMethod handlerMethod = new HandlerMethod(new TestController(), HANDLER_METHOD_NAME);
+
+        interceptor.preHandle(request, response, handlerMethod);
+        QueryStatsHolder.current().incrementQueries();
+        interceptor.afterConcurrentHandlingStarted(request, response, handlerMethod);
+
+        assertAll(
+                () -> assertThat(QueryStatsHolder.current()).isNull(),
+                () -> assertThat(meterRegistry.find(QUERIES_METRIC).summary()).isNull()
+        );
+    }
+
+    static class TestController {
+        public void getUsers() {
+        }
+    }
+}
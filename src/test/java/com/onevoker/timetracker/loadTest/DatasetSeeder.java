@@ -0,0 +1,124 @@
+package com.onevoker.timetracker.loadTest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/***
+ * Fills the database with a large dataset straight in SQL (generate_series), no ORM involved.
+ * Ids are reserved from the sequences in one step, per-row nextval with INCREMENT BY 50
+ * would overflow INTEGER ids at 50M records.
+ * The rollup trigger is disabled while records are inserted, the rollup is rebuilt once at the end.
+ * Monthly partitions for the whole history are created first, otherwise records land in records_default.
+ */
+@RequiredArgsConstructor
+public class DatasetSeeder {
+    private final JdbcTemplate jdbcTemplate;
+
+    public static final String USERNAME_PREFIX = "load-user-";
+    public static final String PROJECT_NAME_PREFIX = "load-project-";
+
+    private static final long RECORDS_CHUNK_SIZE = 1_000_000;
+    private static final int DAYS_OF_HISTORY = 365;
+
+    /***
+     * @param passwordHash BCrypt hash set to every user, hashing 10k passwords would take minutes
+     */
+    public void seed(int users, int projects, int projectsPerUser, long records, String passwordHash) {
+        Integer seededUsers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username LIKE ?", Integer.class, USERNAME_PREFIX + "%"
+        );
+        if (seededUsers != null && seededUsers > 0) {
+            return;
+        }
+
+        long firstUserId = reserveIds("users_id_seq", users);
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, password)
+                SELECT ? + g, ? || g, ?
+                FROM generate_series(0, ? - 1) g
+                """, firstUserId, USERNAME_PREFIX, passwordHash, users);
+        jdbcTemplate.update("""
+                INSERT INTO users_roles (user_id, role_id)
+                SELECT u.id, r.id
+                FROM users u, roles r
+                WHERE u.username LIKE ? AND r.name = 'ROLE_User'
+                """, USERNAME_PREFIX + "%");
+
+        long firstProjectId = reserveIds("projects_id_seq", projects);
+        jdbcTemplate.update("""
+                INSERT INTO projects (id, name, description)
+                SELECT ? + g, ? || g, 'Load test project'
+                FROM generate_series(0, ? - 1) g
+                """, firstProjectId, PROJECT_NAME_PREFIX, projects);
+
+        // user n is a member of projects n, n + 1, ... n + projectsPerUser - 1 (mod projects)
+        jdbcTemplate.update("""
+                INSERT INTO users_projects (user_id, project_id)
+                SELECT ? + u, ? + (u + j) % ?
+                FROM generate_series(0, ? - 1) u, generate_series(0, ? - 1) j
+                """, firstUserId, firstProjectId, projects, users, projectsPerUser);
+
+        seedRecords(records, firstUserId, firstProjectId, users, projects, projectsPerUser);
+    }
+
+    private void seedRecords(long records,
+                             long firstUserId,
+                             long firstProjectId,
+                             int users,
+                             int projects,
+                             int projectsPerUser) {
+        long memberships = (long) users * projectsPerUser;
+        long firstRecordId = reserveIds("records_id_seq", records);
+
+        jdbcTemplate.queryForList(
+                "SELECT create_records_partitions((now() AT TIME ZONE 'UTC')::DATE - ?, (now() AT TIME ZONE 'UTC')::DATE)",
+                DAYS_OF_HISTORY
+        );
+
+        jdbcTemplate.execute("ALTER TABLE records DISABLE TRIGGER records_daily_rollup_trigger");
+        try {
+            for (long from = 0; from < records; from += RECORDS_CHUNK_SIZE) {
+                long to = Math.min(from + RECORDS_CHUNK_SIZE, records) - 1;
+                // record g belongs to membership g % memberships, spread over the last year
+                jdbcTemplate.update("""
+                        INSERT INTO records (id, user_id, project_id, hours, description, created_at)
+                        SELECT ? + g,
+                               ? + (g % ?) / ?,
+                               ? + ((g % ?) / ? + (g % ?) % ?) % ?,
+                               1 + g % 8,
+                               'Load test record',
+                               now() - make_interval(days => (g % ?)::INT, mins => (g % 1440)::INT)
+                        FROM generate_series(?, ?) g
+                        """,
+                        firstRecordId,
+                        firstUserId, memberships, projectsPerUser,
+                        firstProjectId, memberships, projectsPerUser, memberships, projectsPerUser, projects,
+                        DAYS_OF_HISTORY,
+                        from, to);
+            }
+
+            jdbcTemplate.execute("TRUNCATE records_daily_rollup");
+            jdbcTemplate.execute("""
+                    INSERT INTO records_daily_rollup (project_id, user_id, day, sum_hours, records_count)
+                    SELECT project_id, user_id, (created_at AT TIME ZONE 'UTC')::DATE, SUM(hours), COUNT(*)
+                    FROM records
+                    GROUP BY project_id, user_id, (created_at AT TIME ZONE 'UTC')::DATE
+                    """);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE records ENABLE TRIGGER records_daily_rollup_trigger");
+        }
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /***
+     * Moves the sequence past {@code count} ids, ORM allocations continue after them
+     * @return first reserved id
+     */
+    private long reserveIds(String sequence, long count) {
+        Long firstId = jdbcTemplate.queryForObject("SELECT nextval(?)", Long.class, sequence);
+        jdbcTemplate.queryForObject("SELECT setval(?, ?)", Long.class, sequence, firstId + count);
+
+        return firstId;
+    }
+}
@@ -0,0 +1,101 @@
+package com.onevoker.timetracker.loadTest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/***
+ * Latencies and failures per endpoint, printed as a table with throughput and percentiles
+ */
+public class LoadReport {
+    private final Map<String, EndpointStats> endpoints = new ConcurrentSkipListMap<>();
+
+    private static final String HEADER_FORMAT = "%-45s %10s %8s %8s %10s %10s %10s %10s%n";
+    private static final String ROW_FORMAT = "%-45s %10d %8d %8d %10.1f %10.1f %10.1f %10.1f%n";
+    private static final double NANOS_IN_MILLI = 1_000_000d;
+
+    public void record(String endpoint, long latencyNanos, int statusCode) {
+        endpoints.computeIfAbsent(endpoint, name -> new EndpointStats()).record(latencyNanos, statusCode);
+    }
+
+    public void recordFailure(String endpoint) {
+        endpoints.computeIfAbsent(endpoint, name -> new EndpointStats()).failures.incrementAndGet();
+    }
+
+    public long getFailures() {
+        return endpoints.values().stream()
+                .mapToLong(stats -> stats.failures.get())
+                .sum();
+    }
+
+    public long getRequests() {
+        return endpoints.values().stream()
+                .mapToLong(EndpointStats::getCount)
+                .sum();
+    }
+
+    public String format(Duration duration) {
+        StringBuilder report = new StringBuilder();
+        report.append(HEADER_FORMAT.formatted("endpoint", "requests", "failed", "429", "req/s", "p50 ms", "p99 ms", "max ms"));
+        endpoints.forEach((endpoint, stats) -> {
+            long[] latencies = stats.getSortedLatencies();
+            report.append(ROW_FORMAT.formatted(
+                    endpoint,
+                    latencies.length,
+                    stats.failures.get(),
+                    stats.rejected.get(),
+                    latencies.length / (double) duration.toSeconds(),
+                    percentileMillis(latencies, 0.50),
+                    percentileMillis(latencies, 0.99),
+                    percentileMillis(latencies, 1)
+            ));
+        });
+
+        return report.toString();
+    }
+
+    private static double percentileMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+
+        return sortedLatencies[Math.max(index, 0)] / NANOS_IN_MILLI;
+    }
+
+    private static class EndpointStats {
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private long[] latencies = new long[1024];
+        private int count;
+
+        private static final int TOO_MANY_REQUESTS = 429;
+        private static final int MIN_ERROR_STATUS = 400;
+
+        synchronized void record(long latencyNanos, int statusCode) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+
+            if (statusCode == TOO_MANY_REQUESTS) {
+                rejected.incrementAndGet();
+            } else if (statusCode >= MIN_ERROR_STATUS) {
+                failures.incrementAndGet();
+            }
+        }
+
+        synchronized long getCount() {
+            return count;
+        }
+
+        synchronized long[] getSortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.onevoker.timetracker.loadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onevoker.timetracker.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * End-to-end load on a seeded dataset, run with the load-test profile:
+ * ./mvnw -P load-test test -Dloadtest.records=1000000
+ * Clients log in, create records and read them between dates, a report per endpoint is printed at the end.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                // same cost as the seeded hash, otherwise every login rehashes the password
+                "password-hashing.cost=" + TimeTrackerLoadIT.BCRYPT_COST,
+                "security-properties.jwt.secret-key=loadTestSecretKey"
+        }
+)
+public class TimeTrackerLoadIT extends IntegrationTest {
+    static final int BCRYPT_COST = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LoadReport loadReport = new LoadReport();
+
+    // Dataset and load, override with -Dloadtest.*
+    static final int USERS = Integer.getInteger("loadtest.users", 10_000);
+    static final int PROJECTS = Integer.getInteger("loadtest.projects", 1_000);
+    static final int PROJECTS_PER_USER = Integer.getInteger("loadtest.projects-per-user", 3);
+    static final long RECORDS = Long.getLong("loadtest.records", 50_000_000);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 200);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT2M"));
+    private static final double MAX_FAILED_SHARE = 0.01;
+
+    // Request mix in percents, the rest are between-dates reads
+    private static final int LOGIN_SHARE = 1;
+    private static final int CREATE_RECORD_SHARE = 25;
+    private static final int USER_RECORDS_SHARE = 30;
+    private static final int PROJECT_USER_RECORDS_SHARE = 25;
+
+    static final String PASSWORD = "loadTestPassword";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration READ_WINDOW = Duration.ofDays(30);
+
+    private static final String LOGIN_ENDPOINT = "POST /auth/login";
+    private static final String CREATE_RECORD_ENDPOINT = "POST /records/projects/{}/users/{}";
+    private static final String USER_RECORDS_ENDPOINT = "GET /records/users/{}/between-dates";
+    private static final String PROJECT_USER_RECORDS_ENDPOINT = "GET /records/projects/{}/users/{}/between-dates";
+    private static final String PROJECT_RECORDS_ENDPOINT = "GET /records/projects/{}/between-dates";
+
+    @Test
+    void testMixedLoad() throws Exception {
+        new DatasetSeeder(jdbcTemplate).seed(
+                USERS, PROJECTS, PROJECTS_PER_USER, RECORDS, new BCryptPasswordEncoder(BCRYPT_COST).encode(PASSWORD)
+        );
+        Map<Integer, String> usernames = new HashMap<>();
+        Map<Integer, List<Integer>> projectsByUser = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT u.id, u.username, up.project_id
+                FROM users u
+                JOIN users_projects up ON up.user_id = u.id
+                WHERE u.username LIKE ?
+                """, row -> {
+            usernames.put(row.getInt(1), row.getString(2));
+            projectsByUser.computeIfAbsent(row.getInt(1), id -> new ArrayList<>()).add(row.getInt(3));
+        }, DatasetSeeder.USERNAME_PREFIX + "%");
+        List<Integer> userIds = List.copyOf(usernames.keySet());
+
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                int userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+                futures.add(clients.submit(() -> runClient(
+                        httpClient, userId, usernames.get(userId), projectsByUser.get(userId), deadline
+                )));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        System.out.printf("%d users, %d projects, %d records, %d clients for %s%n%s",
+                USERS, PROJECTS, RECORDS, CLIENTS, DURATION, loadReport.format(DURATION));
+
+        assertThat(loadReport.getRequests()).isPositive();
+        assertThat(loadReport.getFailures()).isLessThanOrEqualTo((long) (loadReport.getRequests() * MAX_FAILED_SHARE));
+    }
+
+    private void runClient(HttpClient httpClient, int userId, String username, List<Integer> projectIds, long deadline) {
+        String token = login(httpClient, username);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            int projectId = projectIds.get(random.nextInt(projectIds.size()));
+            OffsetDateTime endDate = OffsetDateTime.now().minusDays(random.nextInt(300));
+            String dates = "?startDate=" + encode(endDate.minus(READ_WINDOW)) + "&endDate=" + encode(endDate);
+            int operation = random.nextInt(100);
+
+            if (operation < LOGIN_SHARE) {
+                token = login(httpClient, username);
+            } else if (operation < LOGIN_SHARE + CREATE_RECORD_SHARE) {
+                send(httpClient, CREATE_RECORD_ENDPOINT, authorized(token, "/records/projects/%d/users/%d"
+                        .formatted(projectId, userId))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"hours\": 2, \"description\": \"Load test\"}")));
+            } else if (operation < LOGIN_SHARE + CREATE_RECORD_SHARE + USER_RECORDS_SHARE) {
+                send(httpClient, USER_RECORDS_ENDPOINT, authorized(token, "/records/users/%d/between-dates%s"
+                        .formatted(userId, dates)).GET());
+            } else if (operation < LOGIN_SHARE + CREATE_RECORD_SHARE + USER_RECORDS_SHARE + PROJECT_USER_RECORDS_SHARE) {
+                send(httpClient, PROJECT_USER_RECORDS_ENDPOINT, authorized(token, "/records/projects/%d/users/%d/between-dates%s"
+                        .formatted(projectId, userId, dates)).GET());
+            } else {
+                send(httpClient, PROJECT_RECORDS_ENDPOINT, authorized(token, "/records/projects/%d/between-dates%s"
+                        .formatted(projectId, dates)).GET());
+            }
+        }
+    }
+
+    private String login(HttpClient httpClient, String username) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\": \"%s\", \"password\": \"%s\"}".formatted(username, PASSWORD)
+                ));
+        HttpResponse<String> response = send(httpClient, LOGIN_ENDPOINT, request);
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            return body.get("token").asText();
+        } catch (Exception exception) {
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(HttpClient httpClient, String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString()
+            );
+            loadReport.record(endpoint, System.nanoTime() - start, response.statusCode());
+
+            return response;
+        } catch (Exception exception) {
+            loadReport.recordFailure(endpoint);
+
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(OffsetDateTime dateTime) {
+        return URLEncoder.encode(dateTime.toString(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,201 @@
+package com.onevoker.timetracker.loadTest;
+
+import com.onevoker.timetracker.IntegrationTest;
+import com.onevoker.timetracker.TimeTrackerApplication;
+import com.onevoker.timetracker.configs.MetricNames;
+import com.onevoker.timetracker.dataSource.ConnectionLimitingDataSource;
+import com.onevoker.timetracker.security.services.jwt.JwtIssuerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/***
+ * Runs the app on platform and on virtual threads against the dataset of {@link TimeTrackerLoadIT}
+ * and reads records between dates with 2k concurrent clients, far more than the pool has connections.
+ * A report per mode is printed, run with the load-test profile:
+ * ./mvnw -P load-test test -Dtest=VirtualThreadsLoadIT -Dloadtest.records=1000000
+ */
+public class VirtualThreadsLoadIT extends IntegrationTest {
+    private static final int CLIENTS = Integer.getInteger("loadtest.virtual-threads.clients", 2_000);
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final int WARM_UP_REQUESTS = 500;
+    private static final double MAX_FAILED_SHARE = 0.01;
+
+    private static final String ROLE = "ROLE_User";
+    private static final String JWT_SECRET_KEY = "loadTestSecretKey";
+    private static final String USER_RECORDS_ENDPOINT = "GET /records/users/{}/between-dates";
+    private static final String USER_RECORDS_URL = "http://localhost:%d/records/users/%d/between-dates"
+            + "?startDate=%s&endDate=%s";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration READ_WINDOW = Duration.ofDays(90);
+    private static final Duration WAITING_SAMPLE_INTERVAL = Duration.ofMillis(10);
+
+    private static Map<Integer, String> usernames;
+
+    @BeforeAll
+    static void seed() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()
+        ));
+        new DatasetSeeder(jdbcTemplate).seed(
+                TimeTrackerLoadIT.USERS,
+                TimeTrackerLoadIT.PROJECTS,
+                TimeTrackerLoadIT.PROJECTS_PER_USER,
+                TimeTrackerLoadIT.RECORDS,
+                new BCryptPasswordEncoder(TimeTrackerLoadIT.BCRYPT_COST).encode(TimeTrackerLoadIT.PASSWORD)
+        );
+
+        usernames = new HashMap<>();
+        jdbcTemplate.query("SELECT id, username FROM users WHERE username LIKE ?",
+                row -> {
+                    usernames.put(row.getInt(1), row.getString(2));
+                }, DatasetSeeder.USERNAME_PREFIX + "%");
+    }
+
+    @Test
+    void testP99LatencyOnPlatformAndVirtualThreads() throws Exception {
+        Result platform = runLoad(false);
+        Result virtual = runLoad(true);
+
+        System.out.printf("%d clients x %d requests on platform threads for %s%n%s",
+                CLIENTS, REQUESTS_PER_CLIENT, platform.duration(), platform.loadReport().format(platform.duration()));
+        System.out.printf("%d clients x %d requests on virtual threads for %s, up to %d waiting for a connection%n%s",
+                CLIENTS, REQUESTS_PER_CLIENT, virtual.duration(), virtual.maxWaitingThreads(),
+                virtual.loadReport().format(virtual.duration()));
+
+        for (LoadReport loadReport : List.of(platform.loadReport(), virtual.loadReport())) {
+            assertThat(loadReport.getRequests()).isPositive();
+            assertThat(loadReport.getFailures()).isLessThanOrEqualTo((long) (loadReport.getRequests() * MAX_FAILED_SHARE));
+        }
+        // the clients queue on the semaphore in front of the pool, not on Tomcat's threads
+        assertThat(virtual.maxWaitingThreads()).isPositive();
+    }
+
+    private Result runLoad(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = startApplication(virtualThreads);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+            // VirtualThreadsConfig wraps the pool only when virtual threads are on
+            assertThat(context.getBean(DataSource.class) instanceof ConnectionLimitingDataSource).isEqualTo(virtualThreads);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            JwtIssuerService jwtIssuerService = context.getBean(JwtIssuerService.class);
+            List<Integer> userIds = List.copyOf(usernames.keySet());
+            LoadReport loadReport = new LoadReport();
+
+            for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+                int userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+                httpClient.send(getUserRecords(port, userId, jwtIssuerService), HttpResponse.BodyHandlers.discarding());
+            }
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            AtomicLong maxWaitingThreads = new AtomicLong();
+            Future<?> waitingSampler = clients.submit(() -> sampleWaitingThreads(meterRegistry, maxWaitingThreads));
+
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                int userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+                HttpRequest request = getUserRecords(port, userId, jwtIssuerService);
+                futures.add(clients.submit(() -> {
+                    for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                        send(httpClient, request, loadReport);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            waitingSampler.cancel(true);
+
+            return new Result(loadReport, duration, maxWaitingThreads.get());
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+        // arguments, default properties lose to the placeholders of application.yaml
+        return new SpringApplicationBuilder(TimeTrackerApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "--spring.datasource.username=" + POSTGRES.getUsername(),
+                        "--spring.datasource.password=" + POSTGRES.getPassword(),
+                        "--security-properties.jwt.secret-key=" + JWT_SECRET_KEY,
+                        "--record-archival.cron=-"
+                );
+    }
+
+    private HttpRequest getUserRecords(int port, int userId, JwtIssuerService jwtIssuerService) {
+        String token = jwtIssuerService.generateToken(userId, usernames.get(userId), List.of(ROLE));
+        OffsetDateTime endDate = OffsetDateTime.now().minusDays(ThreadLocalRandom.current().nextInt(270));
+
+        return HttpRequest.newBuilder(URI.create(USER_RECORDS_URL.formatted(
+                        port, userId, encode(endDate.minus(READ_WINDOW)), encode(endDate)
+                )))
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    private static void send(HttpClient httpClient, HttpRequest request, LoadReport loadReport) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            loadReport.record(USER_RECORDS_ENDPOINT, System.nanoTime() - start, response.statusCode());
+        } catch (Exception exception) {
+            loadReport.recordFailure(USER_RECORDS_ENDPOINT);
+        }
+    }
+
+    /***
+     * Polls timetracker.datasource.waiting, the gauge exists only in virtual-thread mode
+     */
+    private static void sampleWaitingThreads(MeterRegistry meterRegistry, AtomicLong maxWaitingThreads) {
+        while (!Thread.currentThread().isInterrupted()) {
+            meterRegistry.find(MetricNames.DATASOURCE_WAITING_METRIC).gauges()
+                    .forEach(gauge -> maxWaitingThreads.accumulateAndGet((long) gauge.value(), Math::max));
+            try {
+                Thread.sleep(WAITING_SAMPLE_INTERVAL);
+            } catch (InterruptedException exception) {
+                return;
+            }
+        }
+    }
+
+    private static String encode(OffsetDateTime dateTime) {
+        return URLEncoder.encode(dateTime.toString(), StandardCharsets.UTF_8);
+    }
+
+    private record Result(LoadReport loadReport, Duration duration, long maxWaitingThreads) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.onevoker.timetracker.security.passwordHashing;
+
+import com.onevoker.timetracker.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class PooledPasswordEncoderTest {
+    private static final String PASSWORD = "reallyGoodPassword";
+    private static final String WRONG_PASSWORD = "reallyBadPassword";
+    private static final int COST = 4;
+    private static final int SLOW_COST = 12;
+    private static final int OTHER_COST = 5;
+    private static final int CALLERS = 4;
+    private static final String TIMER_NAME = "password.hashing";
+    private static final String QUEUE_GAUGE_NAME = "password.hashing.queue.size";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordEncoder != null) {
+            passwordEncoder.close();
+        }
+    }
+
+    @Test
+    void testEncodeAndMatches() {
+        passwordEncoder = new PooledPasswordEncoder(COST, 2, 10, meterRegistry);
+
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        assertAll(
+                () -> assertThat(passwordEncoder.matches(PASSWORD, encoded)).isTrue(),
+                () -> assertThat(passwordEncoder.matches(WRONG_PASSWORD, encoded)).isFalse(),
+                () -> assertThat(meterRegistry.get(TIMER_NAME).tag("operation", "encode").timer().count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get(TIMER_NAME).tag("operation", "matches").timer().count()).isEqualTo(2),
+                () -> assertThat(meterRegistry.get(QUEUE_GAUGE_NAME).gauge().value()).isZero()
+        );
+    }
+
+    @Test
+    void testUpgradeEncoding() {
+        passwordEncoder = new PooledPasswordEncoder(OTHER_COST, 1, 1, meterRegistry);
+
+        String sameCostHash = new BCryptPasswordEncoder(OTHER_COST).encode(PASSWORD);
+        String lowerCostHash = new BCryptPasswordEncoder(COST).encode(PASSWORD);
+
+        assertAll(
+                () -> assertThat(passwordEncoder.upgradeEncoding(sameCostHash)).isFalse(),
+                () -> assertThat(passwordEncoder.upgradeEncoding(lowerCostHash)).isTrue(),
+                () -> assertThat(passwordEncoder.upgradeEncoding(null)).isFalse()
+        );
+    }
+
+    @Test
+    void testUpgradeEncodingKeepsHigherCostHash() {
+        // hash upgraded by a faster instance, which calibrated a higher cost
+        passwordEncoder = new PooledPasswordEncoder(COST, 1, 1, meterRegistry);
+
+        String higherCostHash = new BCryptPasswordEncoder(OTHER_COST).encode(PASSWORD);
+
+        assertThat(passwordEncoder.upgradeEncoding(higherCostHash)).isFalse();
+    }
+
+    @Test
+    void testEncodeThrowsTooManyRequestsExceptionWhenQueueIsFull() {
+        // one hash in progress and one queued, the rest is rejected
+        passwordEncoder = new PooledPasswordEncoder(SLOW_COST, 1, 1, meterRegistry);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+        List<CompletableFuture<String>> hashes = IntStream.range(0, CALLERS)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(PASSWORD), callers))
+                .toList();
+
+        long rejected = hashes.stream()
+                .filter(hash -> {
+                    try {
+                        hash.join();
+                        return false;
+                    } catch (CompletionException exception) {
+                        return exception.getCause() instanceof TooManyRequestsException;
+                    }
+                })
+                .count();
+
+        callers.shutdown();
+
+        assertThat(rejected).isPositive();
+    }
+
+    @Test
+    void testCalibrateReturnsAtLeastMinCost() {
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ZERO)).isEqualTo(BCryptCostCalibrator.MIN_COST);
+    }
+}
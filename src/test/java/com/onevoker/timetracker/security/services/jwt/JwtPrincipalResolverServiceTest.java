@@ -0,0 +1,87 @@
+package com.onevoker.timetracker.security.services.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.onevoker.timetracker.configs.SecurityPropertiesConfig;
+import com.onevoker.timetracker.security.userPrincipal.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class JwtPrincipalResolverServiceTest {
+    private static final SecurityPropertiesConfig.Jwt JWT = new SecurityPropertiesConfig.Jwt(
+            "testSecretKey", Duration.ofHours(1), 100
+    );
+    private static final SecurityPropertiesConfig.ClaimNames CLAIM_NAMES = new SecurityPropertiesConfig.ClaimNames(
+            "username", "authorities"
+    );
+    private static final SecurityPropertiesConfig SECURITY_PROPERTIES_CONFIG = new SecurityPropertiesConfig(
+            JWT, CLAIM_NAMES, null
+    );
+    private static final int USER_ID = 1;
+    private static final String USERNAME = "Onevoker";
+    private static final String ROLE_USER = "ROLE_User";
+    private static final String INVALID_TOKEN = "not.a.token";
+
+    private final JwtIssuerService jwtIssuerService = new JwtIssuerService(SECURITY_PROPERTIES_CONFIG);
+
+    private JwtDecoderService jwtDecoderService;
+    private JwtPrincipalResolverService jwtPrincipalResolverService;
+
+    @BeforeEach
+    void setUp() {
+        jwtDecoderService = spy(new JwtDecoderService(JWT));
+        jwtPrincipalResolverService = new JwtPrincipalResolverService(
+                jwtDecoderService,
+                new JwtToPrincipalConverterService(CLAIM_NAMES),
+                JWT
+        );
+    }
+
+    @Test
+    void testResolve() {
+        String token = jwtIssuerService.generateToken(USER_ID, USERNAME, List.of(ROLE_USER));
+
+        UserPrincipal principal = jwtPrincipalResolverService.resolve(token);
+
+        assertAll(
+                () -> assertThat(principal.getUserId()).isEqualTo(USER_ID),
+                () -> assertThat(principal.getUsername()).isEqualTo(USERNAME),
+                () -> assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly(ROLE_USER)
+        );
+    }
+
+    @Test
+    void testResolveVerifiesTokenOnce() {
+        String token = jwtIssuerService.generateToken(USER_ID, USERNAME, List.of(ROLE_USER));
+
+        UserPrincipal first = jwtPrincipalResolverService.resolve(token);
+        UserPrincipal second = jwtPrincipalResolverService.resolve(token);
+
+        assertThat(second).isSameAs(first);
+        verify(jwtDecoderService, times(1)).decode(anyString());
+    }
+
+    @Test
+    void testResolveThrowsJWTVerificationException() {
+        assertThatThrownBy(() -> jwtPrincipalResolverService.resolve(INVALID_TOKEN))
+                .isInstanceOf(JWTVerificationException.class);
+    }
+
+    @Test
+    void testResolveDoesNotCacheInvalidToken() {
+        assertThatThrownBy(() -> jwtPrincipalResolverService.resolve(INVALID_TOKEN));
+        assertThatThrownBy(() -> jwtPrincipalResolverService.resolve(INVALID_TOKEN));
+
+        verify(jwtDecoderService, times(2)).decode(INVALID_TOKEN);
+    }
+}